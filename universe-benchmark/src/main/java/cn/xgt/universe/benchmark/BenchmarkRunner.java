@@ -0,0 +1,31 @@
+package cn.xgt.universe.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * @author XGT
+ * @description 一次跑出吞吐、延迟分位数(SampleTime)与分配率(GCProfiler)，结果写入 target/jmh-result.json
+ *              java -cp target/benchmarks.jar cn.xgt.universe.benchmark.BenchmarkRunner [正则，默认全部]
+ * @date 2026/10/18
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException {
+		String include = args.length > 0 ? args[0] : "cn.xgt.universe.benchmark.*";
+		Options options = new OptionsBuilder()
+				.include(include)
+				.mode(Mode.Throughput)
+				.mode(Mode.SampleTime)
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("target/jmh-result.json")
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,122 @@
+package cn.xgt.universe.benchmark.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import cn.xgt.universe.common.util.BeanCopyUtils;
+import lombok.Data;
+
+/**
+ * @author XGT
+ * @description BeanCopyUtils.convertTo / convertListTo 与手写 setter 拷贝对比
+ *              java -jar target/benchmarks.jar BeanCopyUtilsBenchmark -prof gc
+ * @date 2026/10/18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanCopyUtilsBenchmark {
+
+	@Param({"10", "1000"})
+	private int size;
+
+	private UserDO source;
+
+	private List<UserDO> sources;
+
+	@Setup
+	public void setUp() {
+		source = newUser(1);
+		sources = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			sources.add(newUser(i));
+		}
+	}
+
+	/**
+	 * 基线：手写 setter
+	 */
+	@Benchmark
+	public UserVO manual() {
+		return copy(source);
+	}
+
+	@Benchmark
+	public UserVO convertTo() {
+		return BeanCopyUtils.convertTo(source, UserVO::new);
+	}
+
+	@Benchmark
+	public List<UserVO> manualList() {
+		List<UserVO> targets = new ArrayList<>(sources.size());
+		for (UserDO user : sources) {
+			targets.add(copy(user));
+		}
+		return targets;
+	}
+
+	@Benchmark
+	public List<UserVO> convertListTo() {
+		return BeanCopyUtils.convertListTo(sources, UserVO::new);
+	}
+
+	private static UserVO copy(UserDO source) {
+		UserVO target = new UserVO();
+		target.setId(source.getId());
+		target.setName(source.getName());
+		target.setMobile(source.getMobile());
+		target.setEmail(source.getEmail());
+		target.setAge(source.getAge());
+		target.setEnabled(source.getEnabled());
+		return target;
+	}
+
+	private static UserDO newUser(int i) {
+		UserDO user = new UserDO();
+		user.setId((long) i);
+		user.setName("user" + i);
+		user.setMobile("138" + i);
+		user.setEmail("user" + i + "@example.com");
+		user.setAge(20 + i % 50);
+		user.setEnabled(Boolean.TRUE);
+		user.setPassword("secret");
+		return user;
+	}
+
+	@Data
+	public static class UserDO {
+		private Long id;
+		private String name;
+		private String mobile;
+		private String email;
+		private Integer age;
+		private Boolean enabled;
+		private String password;
+	}
+
+	@Data
+	public static class UserVO {
+		private Long id;
+		private String name;
+		private String mobile;
+		private String email;
+		private Integer age;
+		private Boolean enabled;
+	}
+}
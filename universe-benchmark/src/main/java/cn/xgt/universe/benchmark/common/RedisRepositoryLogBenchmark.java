@@ -0,0 +1,61 @@
+package cn.xgt.universe.benchmark.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import cn.xgt.universe.benchmark.support.StubRedisTemplates;
+import cn.xgt.universe.common.util.RedisRepository;
+import cn.xgt.universe.common.util.RedisRepositoryProperties;
+
+/**
+ * @author XGT
+ * @description RedisRepository 每次调用的日志开销（Redis 调用本身被替身消除）
+ *              INFO 即旧版行为：每次调用都输出 INFO 日志，setSet 先将 values 序列化为 JSON；
+ *              RedisRepository 的 INFO 日志在 logback.xml 中接入 DiscardingAppender，完整格式化但不落盘
+ *              java -jar target/benchmarks.jar RedisRepositoryLogBenchmark -prof gc
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisRepositoryLogBenchmark {
+
+	@Param({"INFO", "SAMPLED", "DEBUG", "OFF"})
+	private RedisRepositoryProperties.LogLevel logLevel;
+
+	private final String[] values = {"member-1", "member-2", "member-3", "member-4", "member-5", "member-6", "member-7", "member-8"};
+
+	private RedisRepository redisRepository;
+
+	@Setup
+	public void setUp() {
+		RedisRepositoryProperties properties = new RedisRepositoryProperties();
+		properties.setLogLevel(logLevel);
+		redisRepository = new RedisRepository(StubRedisTemplates.newTemplate());
+		redisRepository.setProperties(properties);
+	}
+
+	@Benchmark
+	public Long increment() {
+		return redisRepository.increment("id_generator:order", 1L);
+	}
+
+	@Benchmark
+	public boolean setSet() {
+		return redisRepository.setSet("tags", values);
+	}
+}
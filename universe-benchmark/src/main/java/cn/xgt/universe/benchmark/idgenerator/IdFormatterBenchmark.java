@@ -0,0 +1,74 @@
+package cn.xgt.universe.benchmark.idgenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import cn.xgt.universe.idgenerator.IdFormatter;
+
+/**
+ * @author XGT
+ * @description nextIdWithPrefixAndLength 格式化路径对比：String.format 与 IdFormatter
+ *              java -jar target/benchmarks.jar IdFormatterBenchmark -prof gc
+ * @date 2026/10/18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdFormatterBenchmark {
+
+	private static final String PREFIX = "ORDER_";
+
+	@Param({"8", "16"})
+	private int length;
+
+	private long id;
+
+	@Setup
+	public void setUp() {
+		id = 10001;
+		String expected = PREFIX + String.format("%0" + length + "d", id);
+		if (!expected.equals(IdFormatter.format(PREFIX, id, length))) {
+			throw new IllegalStateException("IdFormatter output differs from String.format: " + expected);
+		}
+	}
+
+	/**
+	 * 原实现：prefix + String.format("%0" + length + "d", id)
+	 */
+	@Benchmark
+	public String stringFormat() {
+		return PREFIX + String.format("%0" + length + "d", id++);
+	}
+
+	@Benchmark
+	public String idFormatter() {
+		return IdFormatter.format(PREFIX, id++, length);
+	}
+
+	/**
+	 * 原实现：prefix + id
+	 */
+	@Benchmark
+	public String concatPrefix() {
+		return PREFIX + id++;
+	}
+
+	@Benchmark
+	public String idFormatterPrefix() {
+		return IdFormatter.format(PREFIX, id++);
+	}
+}
@@ -0,0 +1,96 @@
+package cn.xgt.universe.benchmark.idgenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import cn.xgt.universe.benchmark.support.InMemoryRedisRepository;
+import cn.xgt.universe.idgenerator.IdGeneratorProperties;
+import cn.xgt.universe.idgenerator.RedisIdGenerator;
+import cn.xgt.universe.idgenerator.SegmentIdGenerator;
+
+/**
+ * @author XGT
+ * @description RedisIdGenerator 取号开销：INCREMENT / SEGMENT 模式，Redis 由进程内替身代替，
+ *              redisLatencyMicros 模拟每次访问 Redis 的往返耗时
+ *              java -jar target/benchmarks.jar RedisIdGeneratorBenchmark -prof gc
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisIdGeneratorBenchmark {
+
+	private static final String KEY = "order";
+
+	@Param({"INCREMENT", "SEGMENT"})
+	private IdGeneratorProperties.Mode mode;
+
+	@Param({"0", "200"})
+	private long redisLatencyMicros;
+
+	private RedisIdGenerator generator;
+
+	@Setup
+	public void setUp() {
+		IdGeneratorProperties properties = new IdGeneratorProperties();
+		properties.setMode(mode);
+		InMemoryRedisRepository redisRepository = new InMemoryRedisRepository(redisLatencyMicros);
+		if (mode == IdGeneratorProperties.Mode.SEGMENT) {
+			generator = new SegmentIdGenerator(redisRepository, properties);
+		} else {
+			generator = new RedisIdGenerator(redisRepository, properties);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (generator instanceof SegmentIdGenerator) {
+			((SegmentIdGenerator) generator).close();
+		}
+	}
+
+	@Benchmark
+	public long nextLong() {
+		return generator.nextLong(KEY);
+	}
+
+	/**
+	 * 原接口：返回装箱的 Long
+	 */
+	@Benchmark
+	public Long nextId() {
+		return generator.nextId(KEY);
+	}
+
+	@Benchmark
+	public String nextIdWithPrefixAndLength() {
+		return generator.nextIdWithPrefixAndLength(KEY, "ORDER_", 12);
+	}
+
+	@Benchmark
+	public long[] nextIds() {
+		return generator.nextIds(KEY, 100);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public long nextLongMultiThread() {
+		return generator.nextLong(KEY);
+	}
+}
@@ -0,0 +1,72 @@
+package cn.xgt.universe.benchmark.idgenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import cn.xgt.universe.idgenerator.UuidIdGenerator;
+
+/**
+ * @author XGT
+ * @description UuidIdGenerator 吞吐：原实现 / SecureRandom 模式 / fastRandom 模式，单线程与多线程
+ *              java -jar target/benchmarks.jar UuidIdGeneratorBenchmark -prof gc
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidIdGeneratorBenchmark {
+
+	private final UuidIdGenerator secureGenerator = new UuidIdGenerator(false);
+
+	private final UuidIdGenerator fastGenerator = new UuidIdGenerator(true);
+
+	/**
+	 * 原实现：UUID.randomUUID().toString().replace("-", "")
+	 */
+	@Benchmark
+	public String legacy() {
+		return UUID.randomUUID().toString().replace("-", "");
+	}
+
+	@Benchmark
+	public String secure() {
+		return secureGenerator.nextIdString();
+	}
+
+	@Benchmark
+	public String fast() {
+		return fastGenerator.nextIdString();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String legacyMultiThread() {
+		return UUID.randomUUID().toString().replace("-", "");
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String secureMultiThread() {
+		return secureGenerator.nextIdString();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String fastMultiThread() {
+		return fastGenerator.nextIdString();
+	}
+}
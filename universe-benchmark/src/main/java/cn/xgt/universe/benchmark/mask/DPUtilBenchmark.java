@@ -0,0 +1,107 @@
+package cn.xgt.universe.benchmark.mask;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import cn.xgt.universe.mask.util.DPUtil;
+
+/**
+ * @author XGT
+ * @description DPUtil 各脱敏类型的单次耗时与分配，latin1Name / supplementary* 对比 Latin-1、含代理对(生僻字、emoji)字符串与普通中文字符串的差异
+ *              java -jar target/benchmarks.jar DPUtilBenchmark -prof gc
+ * @date 2026/10/18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DPUtilBenchmark {
+
+	private String name = "阿道夫·希特勒";
+
+	private String mobile = "13812345678";
+
+	private String idNum = "110101199003071234";
+
+	private String cardNum = "6222021234567890123";
+
+	private String email = "zhangsan@example.com";
+
+	private String address = "北京市朝阳区建国路88号SOHO现代城";
+
+	private String latin1Name = "Adolf Hitler";
+
+	private String supplementaryName = "\uD840\uDC3E\uD869\uDEA5·希特勒";
+
+	private String supplementaryAddress = "北京市朝阳区\uD842\uDFB7祥路88号\uD83D\uDE00现代城";
+
+	private String money = "1234567.89";
+
+	private String custom = "ABCDEFGHIJKLMNOP";
+
+	@Benchmark
+	public String name() {
+		return DPUtil.nameMask(name);
+	}
+
+	@Benchmark
+	public String mobile() {
+		return DPUtil.mobileMask(mobile);
+	}
+
+	@Benchmark
+	public String idNum() {
+		return DPUtil.idMask(idNum);
+	}
+
+	@Benchmark
+	public String cardNum() {
+		return DPUtil.cardNumMask(cardNum);
+	}
+
+	@Benchmark
+	public String email() {
+		return DPUtil.emailMask(email);
+	}
+
+	@Benchmark
+	public String address() {
+		return DPUtil.addressMask(address);
+	}
+
+	@Benchmark
+	public String latin1Name() {
+		return DPUtil.nameMask(latin1Name);
+	}
+
+	@Benchmark
+	public String supplementaryName() {
+		return DPUtil.nameMask(supplementaryName);
+	}
+
+	@Benchmark
+	public String supplementaryAddress() {
+		return DPUtil.addressMask(supplementaryAddress);
+	}
+
+	@Benchmark
+	public String money() {
+		return DPUtil.moneyMask(money);
+	}
+
+	@Benchmark
+	public String custom() {
+		return DPUtil.mask(custom, 3, 4, "*");
+	}
+}
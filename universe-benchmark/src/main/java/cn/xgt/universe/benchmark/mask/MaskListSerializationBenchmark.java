@@ -0,0 +1,165 @@
+package cn.xgt.universe.benchmark.mask;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import cn.xgt.universe.mask.constant.CATEGORT;
+import cn.xgt.universe.mask.strategy.MaskStrategies;
+import cn.xgt.universe.mask.strategy.MaskStrategy;
+import cn.xgt.universe.mask.util.DPUtil;
+
+/**
+ * @author XGT
+ * @description 大列表 JSON 响应的脱敏开销：size 个带 @Mask 字段的对象序列化到丢弃输出的流，与不带注解的同结构列表对比；
+ *              switchPerValue / precompiled 只比较每个值的分派方式（逐值按类型 switch 调用 DPUtil 与预编译策略的一次虚调用）。
+ *              字段长度随机，避免所有值命中同一条长度分支
+ *              java -jar target/benchmarks.jar MaskListSerializationBenchmark -prof gc
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskListSerializationBenchmark {
+
+	private static final CATEGORT[] CATEGORIES = {CATEGORT.NAME, CATEGORT.MOBILE, CATEGORT.ID_NUM, CATEGORT.EMAIL, CATEGORT.ADDRESS, CATEGORT.CUSTOM};
+
+	private static final OutputStream DISCARD = new OutputStream() {
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	};
+
+	@Param({"1000", "100000"})
+	private int size;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private List<MaskSerializerBenchmark.MaskedUser> maskedUsers;
+
+	private List<MaskSerializerBenchmark.PlainUser> plainUsers;
+
+	private String[] values;
+
+	private CATEGORT[] categories;
+
+	private MaskStrategy[] strategies;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		maskedUsers = new ArrayList<>(size);
+		plainUsers = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			MaskSerializerBenchmark.MaskedUser masked = new MaskSerializerBenchmark.MaskedUser();
+			MaskSerializerBenchmark.PlainUser plain = new MaskSerializerBenchmark.PlainUser();
+			masked.name = plain.name = randomString(random, "赵钱孙李周吴郑王冯陈褚卫蒋沈韩杨", 1 + random.nextInt(12));
+			masked.mobile = plain.mobile = randomString(random, "0123456789", 7 + random.nextInt(8));
+			masked.idNum = plain.idNum = randomString(random, "0123456789X", random.nextBoolean() ? 18 : 15);
+			masked.email = plain.email = randomString(random, "abcdefghijklmnopqrstuvwxyz", 3 + random.nextInt(10)) + "@example.com";
+			masked.address = plain.address = randomString(random, "北京市朝阳区建国路号楼单元室", 4 + random.nextInt(20));
+			masked.remark = plain.remark = randomString(random, "ABCDEFGHIJKLMNOP", 8 + random.nextInt(16));
+			maskedUsers.add(masked);
+			plainUsers.add(plain);
+		}
+
+		values = new String[size * CATEGORIES.length];
+		categories = new CATEGORT[values.length];
+		strategies = new MaskStrategy[values.length];
+		for (int i = 0; i < size; i++) {
+			MaskSerializerBenchmark.PlainUser user = plainUsers.get(i);
+			String[] fields = {user.name, user.mobile, user.idNum, user.email, user.address, user.remark};
+			for (int j = 0; j < CATEGORIES.length; j++) {
+				int index = i * CATEGORIES.length + j;
+				values[index] = fields[j];
+				categories[index] = CATEGORIES[j];
+				strategies[index] = CATEGORIES[j] == CATEGORT.CUSTOM ? MaskStrategies.custom(3, 4, "*") : MaskStrategies.of(CATEGORIES[j]);
+			}
+		}
+	}
+
+	/**
+	 * 基线：不脱敏
+	 */
+	@Benchmark
+	public void plainList() throws IOException {
+		objectMapper.writeValue(DISCARD, plainUsers);
+	}
+
+	@Benchmark
+	public void maskedList() throws IOException {
+		objectMapper.writeValue(DISCARD, maskedUsers);
+	}
+
+	/**
+	 * 旧版序列化器的分派方式：每个值按类型 switch 后调用 DPUtil 静态方法
+	 */
+	@Benchmark
+	public void switchPerValue(Blackhole blackhole) {
+		for (int i = 0; i < values.length; i++) {
+			String value = values[i];
+			switch (categories[i]) {
+				case CUSTOM:
+					blackhole.consume(DPUtil.mask(value, 3, 4, "*"));
+					break;
+				case NAME:
+					blackhole.consume(DPUtil.nameMask(value));
+					break;
+				case MOBILE:
+					blackhole.consume(DPUtil.mobileMask(value));
+					break;
+				case ID_NUM:
+					blackhole.consume(DPUtil.idMask(value));
+					break;
+				case EMAIL:
+					blackhole.consume(DPUtil.emailMask(value));
+					break;
+				case ADDRESS:
+					blackhole.consume(DPUtil.addressMask(value));
+					break;
+				default:
+					throw new IllegalStateException("unexpected category: " + categories[i]);
+			}
+		}
+	}
+
+	@Benchmark
+	public void precompiled(Blackhole blackhole) {
+		for (int i = 0; i < values.length; i++) {
+			blackhole.consume(strategies[i].mask(values[i]));
+		}
+	}
+
+	private static String randomString(Random random, String alphabet, int length) {
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+		}
+		return new String(chars);
+	}
+}
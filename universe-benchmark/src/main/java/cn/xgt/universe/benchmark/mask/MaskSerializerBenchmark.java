@@ -0,0 +1,102 @@
+package cn.xgt.universe.benchmark.mask;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import cn.xgt.universe.mask.anontation.Mask;
+import cn.xgt.universe.mask.constant.CATEGORT;
+
+/**
+ * @author XGT
+ * @description 带 @Mask 字段的对象经 ObjectMapper 完整序列化的开销，与不带注解的同结构对象对比
+ *              java -jar target/benchmarks.jar MaskSerializerBenchmark -prof gc
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskSerializerBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final MaskedUser maskedUser = new MaskedUser();
+
+	private final PlainUser plainUser = new PlainUser();
+
+	/**
+	 * 基线：不脱敏
+	 */
+	@Benchmark
+	public String plain() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(plainUser);
+	}
+
+	@Benchmark
+	public String masked() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(maskedUser);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String plainMultiThread() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(plainUser);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String maskedMultiThread() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(maskedUser);
+	}
+
+	public static class MaskedUser {
+
+		@Mask(category = CATEGORT.NAME)
+		public String name = "阿道夫·希特勒";
+
+		@Mask(category = CATEGORT.MOBILE)
+		public String mobile = "13812345678";
+
+		@Mask(category = CATEGORT.ID_NUM)
+		public String idNum = "110101199003071234";
+
+		@Mask(category = CATEGORT.EMAIL)
+		public String email = "zhangsan@example.com";
+
+		@Mask(category = CATEGORT.ADDRESS)
+		public String address = "北京市朝阳区建国路88号SOHO现代城";
+
+		@Mask(prefixNoMaskLen = 3, suffixNoMaskLen = 4)
+		public String remark = "ABCDEFGHIJKLMNOP";
+	}
+
+	public static class PlainUser {
+
+		public String name = "阿道夫·希特勒";
+
+		public String mobile = "13812345678";
+
+		public String idNum = "110101199003071234";
+
+		public String email = "zhangsan@example.com";
+
+		public String address = "北京市朝阳区建国路88号SOHO现代城";
+
+		public String remark = "ABCDEFGHIJKLMNOP";
+	}
+}
@@ -0,0 +1,27 @@
+package cn.xgt.universe.benchmark.support;
+
+import java.io.OutputStream;
+
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * @author XGT
+ * @description 按 encoder 完整格式化日志事件后丢弃输出，用于测量日志调用本身的开销
+ * @date 2026/10/18
+ */
+public class DiscardingAppender<E> extends OutputStreamAppender<E> {
+
+	@Override
+	public void start() {
+		setOutputStream(new OutputStream() {
+			@Override
+			public void write(int b) {
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+			}
+		});
+		super.start();
+	}
+}
@@ -0,0 +1,54 @@
+package cn.xgt.universe.benchmark.support;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cn.xgt.universe.common.util.RedisRepository;
+
+/**
+ * @author XGT
+ * @description 进程内的 RedisRepository 替身，只实现ID生成器用到的 INCRBY，
+ *              每次调用忙等 latencyNanos 模拟一次网络往返，用于在没有 Redis 的环境下对比各生成模式的开销
+ * @date 2026/10/18
+ */
+public class InMemoryRedisRepository extends RedisRepository {
+
+	private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+	private final long latencyNanos;
+
+	/**
+	 * @param latencyMicros 每次 Redis 调用的模拟往返耗时（微秒），0 表示不模拟
+	 */
+	public InMemoryRedisRepository(long latencyMicros) {
+		this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+	}
+
+	@Override
+	public Long increment(String key, int value) {
+		return increment(key, (long) value);
+	}
+
+	@Override
+	public Long increment(String key, long value) {
+		roundTrip();
+		return counters.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(value);
+	}
+
+	@Override
+	public Long incrementAndExpire(String key, long value, long timeout, TimeUnit unit) {
+		return increment(key, value);
+	}
+
+	private void roundTrip() {
+		if (latencyNanos <= 0) {
+			return;
+		}
+		long deadline = System.nanoTime() + latencyNanos;
+		while (System.nanoTime() < deadline) {
+			Thread.yield();
+		}
+	}
+}
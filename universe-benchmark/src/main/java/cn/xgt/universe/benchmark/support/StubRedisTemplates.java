@@ -0,0 +1,51 @@
+package cn.xgt.universe.benchmark.support;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * @author XGT
+ * @description 不连接 Redis 的 StringRedisTemplate，opsForValue / opsForSet 的数值型操作直接返回 1，
+ *              用于测量 RedisRepository 自身（参数校验、日志）的开销
+ * @date 2026/10/18
+ */
+public final class StubRedisTemplates {
+
+	private StubRedisTemplates() {
+	}
+
+	public static StringRedisTemplate newTemplate() {
+		RedisConnectionFactory connectionFactory = stub(RedisConnectionFactory.class);
+		ValueOperations<String, String> valueOperations = stub(ValueOperations.class);
+		SetOperations<String, String> setOperations = stub(SetOperations.class);
+		return new StringRedisTemplate(connectionFactory) {
+			@Override
+			public ValueOperations<String, String> opsForValue() {
+				return valueOperations;
+			}
+
+			@Override
+			public SetOperations<String, String> opsForSet() {
+				return setOperations;
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<?> type) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+			Class<?> returnType = method.getReturnType();
+			if (returnType == Long.class || returnType == long.class) {
+				return 1L;
+			}
+			if (returnType == Boolean.class || returnType == boolean.class) {
+				return Boolean.TRUE;
+			}
+			return null;
+		});
+	}
+}
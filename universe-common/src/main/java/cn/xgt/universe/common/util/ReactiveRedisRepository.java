@@ -0,0 +1,562 @@
+package cn.xgt.universe.common.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.util.CollectionUtils;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import cn.hutool.json.JSONUtil;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * @author XGT
+ * @description RedisRepository 的响应式版本，基于 ReactiveStringRedisTemplate，方法与 RedisRepository 一一对应，返回 Mono
+ *              不阻塞调用线程，适合 WebFlux 等非阻塞服务；所有操作在订阅时才执行。
+ *              参数校验失败时返回 Mono.error(RuntimeException)，写入类方法出错时与 RedisRepository 一样记录日志并返回 false。
+ *              批量操作不使用显式 pipeline：同一连接上并发发出的命令由 Lettuce 自动流水线化
+ * @date 2026/10/18
+ */
+@Slf4j
+public class ReactiveRedisRepository {
+
+	private final ReactiveStringRedisTemplate template;
+
+	private final RedisRepositorySupport support = new RedisRepositorySupport(log);
+
+	/**
+	 * 近端缓存，未开启时为 null。响应式 get 不读取近端缓存，写入/删除后在 boundedElastic 线程上失效本节点的缓存
+	 */
+	private volatile RedisNearCache nearCache;
+
+	public ReactiveRedisRepository(ReactiveStringRedisTemplate template) {
+		if (template == null) {
+			throw new IllegalArgumentException("ReactiveStringRedisTemplate cannot be null");
+		}
+		this.template = template;
+	}
+
+	/**
+	 * 设置操作日志策略与批量参数，容器中存在 RedisRepositoryProperties 时自动注入
+	 */
+	@Autowired(required = false)
+	public void setProperties(RedisRepositoryProperties properties) {
+		this.support.setProperties(properties);
+	}
+
+	/**
+	 * 设置近端缓存，容器中存在 RedisNearCache 时自动注入
+	 */
+	@Autowired(required = false)
+	public void setNearCache(RedisNearCache nearCache) {
+		this.nearCache = nearCache;
+	}
+
+	public Mono<Boolean> set(String key, String value) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("redis写入内容, key:[ {} ], value:[ {} ].", key, value);
+		}
+		if (StringUtils.isBlank(key) || StringUtils.isBlank(value)) {
+			return Mono.just(true);
+		}
+		return this.template.opsForValue().set(key, value)
+				.transform(write -> this.invalidateNearCache(write, key))
+				.thenReturn(true)
+				.onErrorResume(e -> writeFailed("redis写入失败", e));
+	}
+
+	public Mono<Boolean> set(String key, String value, long expiryTime) {
+		return this.set(key, value, expiryTime, TimeUnit.SECONDS);
+	}
+
+	public Mono<Boolean> set(String key, String value, long timeout, TimeUnit unit) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("redis写入内容, key:[ {} ], value:[ {} ], expiryTime:[ {} ], TimeUnit:[ {} ].", key, value, timeout, unit);
+		}
+		if (StringUtils.isBlank(key) || StringUtils.isBlank(value)) {
+			return Mono.just(true);
+		}
+		return this.template.opsForValue().set(key, value, toDuration(timeout, unit))
+				.transform(write -> this.invalidateNearCache(write, key))
+				.thenReturn(true)
+				.onErrorResume(e -> writeFailed("redis写入失败", e));
+	}
+
+	public Mono<Boolean> setIfAbsent(String key, String value, long timeout, TimeUnit unit) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("redis写入内容, key:[ {} ], value:[ {} ], expiryTime:[ {} ], TimeUnit:[ {} ].", key, value, timeout, unit);
+		}
+		if (StringUtils.isBlank(key) || StringUtils.isBlank(value)) {
+			return Mono.just(false);
+		}
+		return this.template.opsForValue().setIfAbsent(key, value, toDuration(timeout, unit))
+				.transform(write -> this.invalidateNearCache(write, key))
+				.map(Boolean.TRUE::equals)
+				.defaultIfEmpty(false)
+				.onErrorResume(e -> writeFailed("redis写入失败", e));
+	}
+
+	/**
+	 * @return 值，key 不存在时为空 Mono
+	 */
+	public Mono<String> get(String key) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("获取redis数据, key:[ {} ].", key);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("获取redis数据失败, KEY不能为空.");
+		}
+		return this.template.opsForValue().get(key);
+	}
+
+	public Mono<Integer> getInteger(String key) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("获取redis数据(Integer), key:[ {} ].", key);
+		}
+		return this.get(key)
+				.filter(StringUtils::isNotBlank)
+				.map(data -> {
+					if (StringUtils.isNumeric(data)) {
+						return Integer.valueOf(data);
+					}
+					throw new RuntimeException("redis存储数据为非数值型数据");
+				});
+	}
+
+	public Mono<Boolean> hasKey(String key) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("查询redis是否存在key:[ {} ].", key);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("查询redis是否存在key失败, key不能为空.");
+		}
+		return this.template.hasKey(key);
+	}
+
+	public Mono<Long> increment(String key, long value) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("增量redis数据, key:[ {} ], value:[ {} ].", key, value);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("增量redis数据失败, KEY不能为空.");
+		}
+		return this.template.opsForValue().increment(key, value)
+				.transform(write -> this.invalidateNearCache(write, key));
+	}
+
+	/**
+	 * 增量并在 key 首次创建时设置过期时间，与 RedisRepository 使用同一个 Lua 脚本
+	 *
+	 * @return 增加后的值
+	 */
+	public Mono<Long> incrementAndExpire(String key, long value, long timeout, TimeUnit unit) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("增量redis数据, key:[ {} ], value:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", key, value, timeout, unit);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("增量redis数据失败, KEY不能为空.");
+		}
+		return this.template.execute(RedisRepository.INCREMENT_AND_EXPIRE_SCRIPT, Collections.singletonList(key),
+						Arrays.asList(String.valueOf(value), String.valueOf(unit.toMillis(timeout))))
+				.next()
+				.transform(write -> this.invalidateNearCache(write, key));
+	}
+
+	public Mono<Boolean> addSet(String key, Set<String> set) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("写入redis set数据, key:[ {} ].", key);
+		}
+		if (StringUtils.isBlank(key)) {
+			log.info("写入redis set数据失败, KEY不能为空.");
+			return Mono.just(false);
+		}
+		if (CollectionUtils.isEmpty(set)) {
+			log.info("写入redis set数据失败, set不能为空.");
+			return Mono.just(false);
+		}
+		return this.template.opsForSet().add(key, set.toArray(new String[0]))
+				.thenReturn(true)
+				.onErrorResume(e -> writeFailed("写入redis set数据失败", e));
+	}
+
+	public Mono<Boolean> setSet(String key, String... values) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("写入redis set数据, key:[ {} ], values:[ {} ].", key, JSONUtil.toJsonStr(values));
+		}
+		if (StringUtils.isBlank(key)) {
+			log.info("写入redis set数据失败, KEY不能为空.");
+			return Mono.just(false);
+		}
+		if (values == null || values.length == 0) {
+			log.info("写入redis set数据失败, 数据不能为空.");
+			return Mono.just(false);
+		}
+		return this.template.opsForSet().add(key, values)
+				.thenReturn(true)
+				.onErrorResume(e -> writeFailed("写入redis set数据失败", e));
+	}
+
+	public Mono<Boolean> isMember(String key, Object o) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("查看集合中是否存在指定数据, key:[ {} ], o:[ {} ].", key, o);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("查看集合中是否存在指定数据失败, key不能为空.");
+		}
+		return this.template.opsForSet().isMember(key, o);
+	}
+
+	public Mono<Boolean> expire(String key, long timeout) {
+		return this.expire(key, timeout, TimeUnit.SECONDS);
+	}
+
+	public Mono<Boolean> expire(String key, long timeout, TimeUnit unit) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("设置redis数据过期时间, key:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", key, timeout, unit);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("设置redis数据过期时间失败, key不能为空.");
+		}
+		return this.template.expire(key, toDuration(timeout, unit));
+	}
+
+	/**
+	 * 仅当 key 的当前值等于 value 时设置过期时间（原子操作），用于续期自己持有的锁/租约
+	 *
+	 * @return true-续期成功，false-key 不存在或已被他人持有
+	 */
+	public Mono<Boolean> expireIfValueEquals(String key, String value, long timeout, TimeUnit unit) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("续期redis数据, key:[ {} ], value:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", key, value, timeout, unit);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("续期redis数据失败, key不能为空.");
+		}
+		return this.template.execute(RedisRepository.EXPIRE_IF_EQUALS_SCRIPT, Collections.singletonList(key),
+						Arrays.asList(value, String.valueOf(unit.toMillis(timeout))))
+				.next()
+				.map(result -> result == 1L)
+				.defaultIfEmpty(false);
+	}
+
+	/**
+	 * 剩余过期时间（秒），与 RedisRepository.getExpiry 一致：-1 表示没有过期时间，-2 表示 key 不存在
+	 */
+	public Mono<Long> getExpiry(String key) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("获取redis数据过期时间, key:[ {} ].", key);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("获取redis数据过期时间失败, key不能为空.");
+		}
+		ByteBuffer rawKey = serialization().getKeySerializationPair().write(key);
+		return this.template.execute(connection -> connection.keyCommands().ttl(rawKey)).next();
+	}
+
+	public Mono<Void> deleteKey(String key) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("删除redis数据, key:[ {} ].", key);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("删除redis数据失败, KEY不能为空.");
+		}
+		return this.template.delete(key)
+				.transform(write -> this.invalidateNearCache(write, key))
+				.then();
+	}
+
+	/**
+	 * 仅当 key 的当前值等于 value 时删除（原子操作），用于释放自己持有的锁/租约
+	 *
+	 * @return true-删除成功，false-key 不存在或已被他人持有
+	 */
+	public Mono<Boolean> deleteIfValueEquals(String key, String value) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("删除redis数据, key:[ {} ], value:[ {} ].", key, value);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("删除redis数据失败, KEY不能为空.");
+		}
+		return this.template.execute(RedisRepository.DELETE_IF_EQUALS_SCRIPT, Collections.singletonList(key), Collections.singletonList(value))
+				.next()
+				.transform(write -> this.invalidateNearCache(write, key))
+				.map(result -> result == 1L)
+				.defaultIfEmpty(false);
+	}
+
+	/**
+	 * 删除指定前缀的所有 key，使用默认的 SCAN COUNT，不限速
+	 *
+	 * @see #deleteKeyPrefix(String, int, int, LongConsumer)
+	 */
+	public Mono<Long> deleteKeyPrefix(String keyPrefix) {
+		return this.deleteKeyPrefix(keyPrefix, this.support.scanCount(), 0, null);
+	}
+
+	/**
+	 * 删除指定前缀的所有 key
+	 * SCAN 游标分批遍历，每累计 batchSize 个 key 执行一次 UNLINK；限速通过 Mono.delay 实现，不占用线程
+	 *
+	 * @param keyPrefix key 前缀，可以以 * 结尾
+	 * @param scanCount 每次 SCAN 的 COUNT 提示值
+	 * @param maxKeysPerSecond 每秒最多删除的 key 数，小于等于 0 表示不限速
+	 * @param progress 每批删除后回调累计删除数，可以为 null
+	 * @return 删除的 key 数
+	 */
+	public Mono<Long> deleteKeyPrefix(String keyPrefix, int scanCount, int maxKeysPerSecond, LongConsumer progress) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("删除redis数据, keyPrefix:[ {} ], scanCount:[ {} ], maxKeysPerSecond:[ {} ].", keyPrefix, scanCount, maxKeysPerSecond);
+		}
+		if (StringUtils.isBlank(keyPrefix)) {
+			return blankKey("删除redis数据失败, keyPrefix不能为空.");
+		}
+		if (scanCount <= 0) {
+			return Mono.error(new IllegalArgumentException("scanCount must be positive: " + scanCount));
+		}
+		String pattern = keyPrefix.endsWith("*") ? keyPrefix : keyPrefix + "*";
+		ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanCount).build();
+		int unlinkSize = this.support.batchSize();
+		return Mono.defer(() -> {
+			long start = System.nanoTime();
+			AtomicLong deleted = new AtomicLong();
+			return this.template.scan(options)
+					.buffer(unlinkSize)
+					.concatMap(batch -> this.template.unlink(batch.toArray(new String[0]))
+							.defaultIfEmpty(0L)
+							.flatMap(count -> {
+								long total = deleted.addAndGet(count);
+								if (progress != null) {
+									progress.accept(total);
+								}
+								long sleepNanos = maxKeysPerSecond > 0
+										? total * TimeUnit.SECONDS.toNanos(1) / maxKeysPerSecond - (System.nanoTime() - start) : 0;
+								return sleepNanos > 0 ? Mono.delay(Duration.ofNanos(sleepNanos)).thenReturn(total) : Mono.just(total);
+							}))
+					.then(Mono.fromSupplier(deleted::get));
+		}).transform(delete -> this.afterWrite(delete, cache -> cache.invalidatePrefix(pattern.substring(0, pattern.length() - 1))))
+				.doOnSuccess(deleted -> {
+					if (this.support.logEnabled()) {
+						this.support.logOperation("删除redis数据完成, keyPrefix:[ {} ], deleted:[ {} ].", keyPrefix, deleted);
+					}
+				});
+	}
+
+	/**
+	 * 更新值并保留原有的过期时间，通过 SET key value KEEPTTL 一次往返原子完成（需要 Redis 6.0+）
+	 */
+	public Mono<Boolean> update(String key, String value) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("更新redis数据, key:[ {} ]", key);
+		}
+		if (StringUtils.isBlank(key)) {
+			return blankKey("更新redis数据失败, KEY不能为空.");
+		}
+		if (StringUtils.isBlank(value)) {
+			return Mono.just(true);
+		}
+		RedisSerializationContext<String, String> serialization = serialization();
+		ByteBuffer rawKey = serialization.getKeySerializationPair().write(key);
+		ByteBuffer rawValue = serialization.getValueSerializationPair().write(value);
+		return this.template.execute(connection -> connection.stringCommands()
+						.set(rawKey, rawValue, Expiration.keepTtl(), RedisStringCommands.SetOption.upsert()))
+				.next()
+				.transform(write -> this.invalidateNearCache(write, key))
+				.thenReturn(true)
+				.onErrorResume(e -> writeFailed("redis写入失败", e));
+	}
+
+	/**
+	 * 批量获取(MGET)，按 batchSize 分批依次执行
+	 *
+	 * @param keys key 列表
+	 * @return 与 keys 顺序一致的值，不存在的 key 对应 null
+	 */
+	public Mono<List<String>> multiGet(List<String> keys) {
+		if (CollectionUtils.isEmpty(keys)) {
+			return Mono.just(Collections.emptyList());
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("批量获取redis数据, size:[ {} ].", keys.size());
+		}
+		return Mono.defer(() -> {
+			RedisRepository.checkKeys(keys, "批量获取redis数据失败, KEY不能为空.");
+			return Flux.fromIterable(chunks(keys))
+					.concatMap(chunk -> this.template.opsForValue().multiGet(chunk))
+					.reduce(new ArrayList<String>(keys.size()), (values, chunkValues) -> {
+						values.addAll(chunkValues);
+						return values;
+					});
+		});
+	}
+
+	/**
+	 * 批量写入(MSET，不设置过期时间)，按 batchSize 分批依次执行，每批原子写入
+	 *
+	 * @param values key -> value
+	 */
+	public Mono<Void> multiSet(Map<String, String> values) {
+		if (CollectionUtils.isEmpty(values)) {
+			return Mono.empty();
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("批量写入redis数据, size:[ {} ].", values.size());
+		}
+		return Mono.defer(() -> {
+			RedisRepository.checkKeys(values.keySet(), "批量写入redis数据失败, KEY不能为空.");
+			return Flux.fromIterable(chunks(new ArrayList<>(values.entrySet())))
+					.concatMap(chunk -> {
+						Map<String, String> map = new HashMap<>(chunk.size() * 4 / 3 + 1);
+						for (Map.Entry<String, String> entry : chunk) {
+							map.put(entry.getKey(), entry.getValue());
+						}
+						return this.template.opsForValue().multiSet(map);
+					})
+					.then()
+					.transform(write -> this.invalidateNearCache(write, values.keySet()));
+		});
+	}
+
+	/**
+	 * 批量写入并设置过期时间，每个 key 一条 SET key value PX timeout，最多同时发出 batchSize 条
+	 *
+	 * @param values key -> value
+	 * @param timeout 过期时间
+	 * @param unit 时间单位
+	 */
+	public Mono<Void> multiSet(Map<String, String> values, long timeout, TimeUnit unit) {
+		if (CollectionUtils.isEmpty(values)) {
+			return Mono.empty();
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("批量写入redis数据, size:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", values.size(), timeout, unit);
+		}
+		Duration duration = toDuration(timeout, unit);
+		return Mono.defer(() -> {
+			RedisRepository.checkKeys(values.keySet(), "批量写入redis数据失败, KEY不能为空.");
+			return Flux.fromIterable(values.entrySet())
+					.flatMap(entry -> this.template.opsForValue().set(entry.getKey(), entry.getValue(), duration), this.support.batchSize())
+					.then()
+					.transform(write -> this.invalidateNearCache(write, values.keySet()));
+		});
+	}
+
+	/**
+	 * 批量增量(INCRBY)，最多同时发出 batchSize 条
+	 *
+	 * @param deltas key -> 增量，需要按输入顺序取结果时使用 LinkedHashMap
+	 * @return 与 deltas 迭代顺序一致的增加后的值
+	 */
+	public Mono<List<Long>> multiIncrement(Map<String, Long> deltas) {
+		if (CollectionUtils.isEmpty(deltas)) {
+			return Mono.just(Collections.emptyList());
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("批量增量redis数据, size:[ {} ].", deltas.size());
+		}
+		return Mono.defer(() -> {
+			RedisRepository.checkKeys(deltas.keySet(), "批量增量redis数据失败, KEY不能为空.");
+			return Flux.fromIterable(deltas.entrySet())
+					.flatMapSequential(entry -> this.template.opsForValue().increment(entry.getKey(), entry.getValue()), this.support.batchSize())
+					.collectList()
+					.transform(write -> this.invalidateNearCache(write, deltas.keySet()));
+		});
+	}
+
+	/**
+	 * 批量设置过期时间(PEXPIRE)，最多同时发出 batchSize 条
+	 *
+	 * @param keys key 列表
+	 * @param timeout 过期时间
+	 * @param unit 时间单位
+	 * @return 与 keys 顺序一致的结果，key 不存在时为 false
+	 */
+	public Mono<List<Boolean>> multiExpire(List<String> keys, long timeout, TimeUnit unit) {
+		if (CollectionUtils.isEmpty(keys)) {
+			return Mono.just(Collections.emptyList());
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("批量设置redis数据过期时间, size:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", keys.size(), timeout, unit);
+		}
+		Duration duration = toDuration(timeout, unit);
+		return Mono.defer(() -> {
+			RedisRepository.checkKeys(keys, "批量设置redis数据过期时间失败, key不能为空.");
+			return Flux.fromIterable(keys)
+					.flatMapSequential(key -> this.template.expire(key, duration).defaultIfEmpty(false), this.support.batchSize())
+					.collectList();
+		});
+	}
+
+	private RedisSerializationContext<String, String> serialization() {
+		return this.template.getSerializationContext();
+	}
+
+	private <T> List<List<T>> chunks(List<T> list) {
+		int size = this.support.batchSize();
+		List<List<T>> chunks = new ArrayList<>((list.size() + size - 1) / size);
+		for (int from = 0; from < list.size(); from += size) {
+			chunks.add(list.subList(from, Math.min(from + size, list.size())));
+		}
+		return chunks;
+	}
+
+	private static Duration toDuration(long timeout, TimeUnit unit) {
+		return Duration.ofMillis(unit.toMillis(timeout));
+	}
+
+	private static <T> Mono<T> blankKey(String message) {
+		log.info(message);
+		return Mono.error(new RuntimeException(message));
+	}
+
+	private static Mono<Boolean> writeFailed(String message, Throwable e) {
+		log.error(message, e);
+		return Mono.just(false);
+	}
+
+	private <T> Mono<T> invalidateNearCache(Mono<T> write, String key) {
+		return this.afterWrite(write, cache -> cache.invalidate(key));
+	}
+
+	private <T> Mono<T> invalidateNearCache(Mono<T> write, Iterable<String> keys) {
+		return this.afterWrite(write, cache -> {
+			for (String key : keys) {
+				cache.invalidate(key);
+			}
+		});
+	}
+
+	/**
+	 * 写入成功后失效近端缓存。Redis 回复在 Lettuce 事件循环线程上发出，而 Caffeine 的失效会等待同一 key(同一 bin)上
+	 * 阻塞 get 的加载，该加载又在等待事件循环交付 Redis 回复，两者会互相等待；
+	 * 因此先 publishOn 到 boundedElastic 再失效，之后的下游信号也在该线程上发出。未开启近端缓存时不切换线程
+	 */
+	private <T> Mono<T> afterWrite(Mono<T> write, Consumer<RedisNearCache> invalidation) {
+		RedisNearCache cache = this.nearCache;
+		if (cache == null) {
+			return write;
+		}
+		return write.publishOn(Schedulers.boundedElastic())
+				.doOnSuccess(result -> invalidation.accept(cache));
+	}
+
+}
@@ -0,0 +1,223 @@
+package cn.xgt.universe.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author XGT
+ * @description RedisRepository.get 的近端(本地)缓存，基于 Caffeine(W-TinyLFU 淘汰)
+ *              只缓存配置了前缀的 key，不缓存不存在的 key。
+ *              本节点通过 RedisRepository 写入/删除时同步失效；其他节点的写入通过订阅 keyspace 通知失效，
+ *              通知丢失（订阅断开、FLUSHDB、分发队列已满等）时以 expireAfterWrite 作为最长不一致时间。
+ *              keyspace 通知由单个守护线程按有界队列分发，不在 Redis 客户端的 I/O 线程上执行失效
+ * @date 2026/10/18
+ */
+@Slf4j
+public class RedisNearCache implements AutoCloseable {
+
+	private static final String KEYSPACE_CHANNEL_SEPARATOR = "__:";
+
+	private final Cache<String, String> cache;
+
+	private final String[] keyPrefixes;
+
+	private final int listenerQueueCapacity;
+
+	private final LongAdder remoteInvalidations = new LongAdder();
+
+	private final LongAdder droppedInvalidations = new LongAdder();
+
+	private RedisMessageListenerContainer container;
+
+	private ThreadPoolTaskExecutor listenerExecutor;
+
+	private ThreadPoolTaskExecutor subscriptionExecutor;
+
+	public RedisNearCache(RedisRepositoryProperties.NearCache config) {
+		List<String> prefixes = config.getKeyPrefixes();
+		if (prefixes == null || prefixes.isEmpty()) {
+			throw new IllegalArgumentException("NearCache keyPrefixes must not be empty");
+		}
+		if (config.getMaximumSize() <= 0) {
+			throw new IllegalArgumentException("NearCache maximumSize must be positive: " + config.getMaximumSize());
+		}
+		if (config.getExpireAfterWrite() <= 0) {
+			throw new IllegalArgumentException("NearCache expireAfterWrite must be positive: " + config.getExpireAfterWrite());
+		}
+		if (config.getListenerQueueCapacity() <= 0) {
+			throw new IllegalArgumentException("NearCache listenerQueueCapacity must be positive: " + config.getListenerQueueCapacity());
+		}
+		this.listenerQueueCapacity = config.getListenerQueueCapacity();
+		this.keyPrefixes = prefixes.toArray(new String[0]);
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(config.getMaximumSize())
+				.expireAfterWrite(config.getExpireAfterWrite(), TimeUnit.SECONDS)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * @param key redis key
+	 * @return key 是否匹配配置的前缀
+	 */
+	public boolean accepts(String key) {
+		for (String prefix : keyPrefixes) {
+			if (key.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 读取缓存，未命中时调用 loader 加载，同一 key 并发未命中时只加载一次；loader 返回 null 时不缓存
+	 */
+	String get(String key, Function<String, String> loader) {
+		return cache.get(key, loader);
+	}
+
+	/**
+	 * 失效单个 key。正在加载的 key 会等待加载完成后再移除，不会留下加载到的旧值
+	 */
+	public void invalidate(String key) {
+		if (key != null && accepts(key)) {
+			cache.invalidate(key);
+		}
+	}
+
+	/**
+	 * 失效指定前缀的所有 key
+	 */
+	public void invalidatePrefix(String keyPrefix) {
+		cache.asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * 订阅各前缀的 keyspace 通知(__keyspace@*__:prefix*)，收到任意事件即失效对应 key。
+	 * 通知在单线程、队列长度为 listenerQueueCapacity 的执行器上处理，队列已满时丢弃并计数，
+	 * 不阻塞 Redis 客户端线程（失效正在加载的 key 需要等待加载完成）
+	 */
+	public synchronized void subscribe(RedisConnectionFactory connectionFactory) {
+		if (container != null) {
+			return;
+		}
+		ThreadPoolTaskExecutor taskExecutor = newExecutor("universe-near-cache-listener-", listenerQueueCapacity);
+		taskExecutor.setRejectedExecutionHandler((task, executor) -> {
+			droppedInvalidations.increment();
+			log.warn("近端缓存失效通知队列已满, 丢弃通知, 等待 expireAfterWrite 过期, queueCapacity:[ {} ].", listenerQueueCapacity);
+		});
+		taskExecutor.initialize();
+		// 阻塞式驱动(Jedis)的订阅会一直占用该线程，Lettuce 只用于发起订阅
+		ThreadPoolTaskExecutor subscribeExecutor = newExecutor("universe-near-cache-subscription-", 1);
+		subscribeExecutor.initialize();
+
+		RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+		listenerContainer.setConnectionFactory(connectionFactory);
+		listenerContainer.setTaskExecutor(taskExecutor);
+		listenerContainer.setSubscriptionExecutor(subscribeExecutor);
+		for (String prefix : keyPrefixes) {
+			listenerContainer.addMessageListener((message, pattern) -> {
+				String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+				int index = channel.indexOf(KEYSPACE_CHANNEL_SEPARATOR);
+				if (index > 0) {
+					remoteInvalidations.increment();
+					invalidate(channel.substring(index + KEYSPACE_CHANNEL_SEPARATOR.length()));
+				}
+			}, new PatternTopic("__keyspace@*__:" + prefix + "*"));
+		}
+		try {
+			listenerContainer.afterPropertiesSet();
+			listenerContainer.start();
+		} catch (RuntimeException e) {
+			try {
+				listenerContainer.destroy();
+			} catch (Exception destroyException) {
+				e.addSuppressed(destroyException);
+			}
+			taskExecutor.shutdown();
+			subscribeExecutor.shutdown();
+			throw e;
+		}
+		this.container = listenerContainer;
+		this.listenerExecutor = taskExecutor;
+		this.subscriptionExecutor = subscribeExecutor;
+		log.info("近端缓存已订阅keyspace通知, keyPrefixes:[ {} ].", String.join(",", keyPrefixes));
+	}
+
+	private static ThreadPoolTaskExecutor newExecutor(String threadNamePrefix, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.setDaemon(true);
+		return executor;
+	}
+
+	/**
+	 * @return Caffeine 缓存，用于绑定 Micrometer 等指标
+	 */
+	public Cache<String, String> getCache() {
+		return cache;
+	}
+
+	/**
+	 * @return 命中/未命中/加载/淘汰统计
+	 */
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	/**
+	 * @return 收到的 keyspace 失效通知数
+	 */
+	public long getRemoteInvalidations() {
+		return remoteInvalidations.sum();
+	}
+
+	/**
+	 * @return 分发队列已满而丢弃的 keyspace 失效通知数
+	 */
+	public long getDroppedInvalidations() {
+		return droppedInvalidations.sum();
+	}
+
+	@Override
+	public synchronized void close() throws Exception {
+		try {
+			if (container != null) {
+				container.destroy();
+				container = null;
+			}
+		} finally {
+			// 传入的执行器不由 RedisMessageListenerContainer 管理，需要自行关闭
+			if (listenerExecutor != null) {
+				listenerExecutor.shutdown();
+				listenerExecutor = null;
+			}
+			if (subscriptionExecutor != null) {
+				subscriptionExecutor.shutdown();
+				subscriptionExecutor = null;
+			}
+		}
+		cache.invalidateAll();
+	}
+}
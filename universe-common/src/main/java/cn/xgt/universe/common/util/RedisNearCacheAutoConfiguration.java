@@ -0,0 +1,62 @@
+package cn.xgt.universe.common.util;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * @author XGT
+ * @description RedisRepository 近端缓存自动配置。
+ *              引入 caffeine 且 universe.redis.near-cache.enabled = true 时创建 RedisNearCache，
+ *              RedisRepository / ReactiveRedisRepository 通过 setNearCache 自动注入，与是否启用 ID 生成器无关；
+ *              keyspace-invalidation = true 时订阅 keyspace 通知，失效其他节点写入的 key
+ * @date 2026/10/18
+ */
+@Configuration
+@AutoConfigureAfter(name = "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration")
+@ConditionalOnClass(name = {"com.github.benmanes.caffeine.cache.Caffeine", "org.springframework.data.redis.connection.RedisConnectionFactory"})
+@ConditionalOnProperty(prefix = "universe.redis.near-cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RedisRepositoryProperties.class)
+public class RedisNearCacheAutoConfiguration {
+
+	@Bean(destroyMethod = "close")
+	@ConditionalOnMissingBean
+	public RedisNearCache redisNearCache(RedisRepositoryProperties properties, RedisConnectionFactory connectionFactory) {
+		RedisRepositoryProperties.NearCache config = properties.getNearCache();
+		RedisNearCache nearCache = new RedisNearCache(config);
+		if (config.isKeyspaceInvalidation()) {
+			nearCache.subscribe(connectionFactory);
+		}
+		return nearCache;
+	}
+
+	/**
+	 * 近端缓存的命中率、淘汰等指标（universe.redis.near-cache.*）
+	 */
+	@Configuration
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+	static class NearCacheMetricsConfiguration {
+
+		@Bean
+		public MeterBinder redisNearCacheMetrics(RedisNearCache nearCache) {
+			return registry -> {
+				CaffeineCacheMetrics.monitor(registry, nearCache.getCache(), "universe.redis.near-cache");
+				FunctionCounter.builder("universe.redis.near-cache.remote.invalidations", nearCache, RedisNearCache::getRemoteInvalidations)
+						.description("收到的 keyspace 失效通知数")
+						.register(registry);
+				FunctionCounter.builder("universe.redis.near-cache.remote.dropped", nearCache, RedisNearCache::getDroppedInvalidations)
+						.description("分发队列已满而丢弃的 keyspace 失效通知数")
+						.register(registry);
+			};
+		}
+	}
+}
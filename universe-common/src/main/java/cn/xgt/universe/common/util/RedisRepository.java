@@ -2,12 +2,27 @@ package cn.xgt.universe.common.util;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 
 import cn.hutool.json.JSONUtil;
 import lombok.extern.slf4j.Slf4j;
@@ -21,9 +36,39 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class RedisRepository {
 
+	/**
+	 * INCRBY ARGV[1]，key 没有过期时间(首次创建)时设置过期时间 ARGV[2](毫秒)，返回增加后的值
+	 */
+	static final RedisScript<Long> INCREMENT_AND_EXPIRE_SCRIPT = new DefaultRedisScript<>(
+			"local value = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+					+ "if redis.call('PTTL', KEYS[1]) == -1 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+					+ "return value",
+			Long.class);
+
+	/**
+	 * 值等于 ARGV[1] 时设置过期时间(毫秒)，返回 1 表示成功
+	 */
+	static final RedisScript<Long> EXPIRE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+			Long.class);
+
+	/**
+	 * 值等于 ARGV[1] 时删除，返回 1 表示成功
+	 */
+	static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+			Long.class);
+
 	@Autowired
 	private StringRedisTemplate template;
 
+	private final RedisRepositorySupport support = new RedisRepositorySupport(log);
+
+	/**
+	 * 近端缓存，未开启时为 null
+	 */
+	private volatile RedisNearCache nearCache;
+
 	public RedisRepository(StringRedisTemplate template) {
 		this.template = template;
 	}
@@ -31,11 +76,30 @@ public class RedisRepository {
 	public RedisRepository() {
 	}
 
+	/**
+	 * 设置操作日志策略，容器中存在 RedisRepositoryProperties 时自动注入
+	 */
+	@Autowired(required = false)
+	public void setProperties(RedisRepositoryProperties properties) {
+		this.support.setProperties(properties);
+	}
+
+	/**
+	 * 设置 get 的近端缓存，容器中存在 RedisNearCache 时自动注入
+	 */
+	@Autowired(required = false)
+	public void setNearCache(RedisNearCache nearCache) {
+		this.nearCache = nearCache;
+	}
+
 	public boolean set(String key, String value) {
 		try {
-			log.info("redis写入内容, key:[ {} ], value:[ {} ].", key, value);
+			if (this.support.logEnabled()) {
+				this.support.logOperation("redis写入内容, key:[ {} ], value:[ {} ].", key, value);
+			}
 			if (StringUtils.isNotBlank(key) && StringUtils.isNotBlank(value)) {
 				this.template.opsForValue().set(key, value);
+				this.invalidateNearCache(key);
 			}
 
 			return true;
@@ -51,9 +115,12 @@ public class RedisRepository {
 
 	public boolean set(String key, String value, long timeout, TimeUnit unit) {
 		try {
-			log.info("redis写入内容, key:[ {} ], value:[ {} ], expiryTime:[ {} ], TimeUnit:[ {} ].", new Object[]{key, value, timeout, unit.toString()});
+			if (this.support.logEnabled()) {
+				this.support.logOperation("redis写入内容, key:[ {} ], value:[ {} ], expiryTime:[ {} ], TimeUnit:[ {} ].", key, value, timeout, unit);
+			}
 			if (StringUtils.isNotBlank(key) && StringUtils.isNotBlank(value)) {
 				this.template.opsForValue().set(key, value, timeout, unit);
+				this.invalidateNearCache(key);
 				return true;
 			}
 		} catch (Exception var7) {
@@ -65,9 +132,13 @@ public class RedisRepository {
 
 	public boolean setIfAbsent(String key, String value, long timeout, TimeUnit unit) {
 		try {
-			log.info("redis写入内容, key:[ {} ], value:[ {} ], expiryTime:[ {} ], TimeUnit:[ {} ].", new Object[]{key, value, timeout, unit.toString()});
+			if (this.support.logEnabled()) {
+				this.support.logOperation("redis写入内容, key:[ {} ], value:[ {} ], expiryTime:[ {} ], TimeUnit:[ {} ].", key, value, timeout, unit);
+			}
 			if (StringUtils.isNotBlank(key) && StringUtils.isNotBlank(value)) {
-				return this.template.opsForValue().setIfAbsent(key, value, timeout, unit);
+				Boolean result = this.template.opsForValue().setIfAbsent(key, value, timeout, unit);
+				this.invalidateNearCache(key);
+				return Boolean.TRUE.equals(result);
 			}
 		} catch (Exception var7) {
 			log.error("redis写入失败", var7);
@@ -76,18 +147,48 @@ public class RedisRepository {
 		return false;
 	}
 
+	/**
+	 * 仅当 key 不存在时写入并设置过期时间（SET NX PX），用于抢占锁/租约
+	 * 与 {@link #setIfAbsent(String, String, long, TimeUnit)} 不同，Redis 异常直接抛出，调用方可以区分"已被他人持有"与"Redis 不可用"
+	 *
+	 * @return true-写入成功，false-key 已存在
+	 */
+	public boolean setIfAbsentOrThrow(String key, String value, long timeout, TimeUnit unit) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("redis写入内容, key:[ {} ], value:[ {} ], expiryTime:[ {} ], TimeUnit:[ {} ].", key, value, timeout, unit);
+		}
+		if (StringUtils.isBlank(key) || StringUtils.isBlank(value)) {
+			log.info("redis写入失败, key和value不能为空.");
+			throw new RuntimeException("redis写入失败, key和value不能为空.");
+		}
+		Boolean result = this.template.opsForValue().setIfAbsent(key, value, timeout, unit);
+		if (result == null) {
+			throw new RuntimeException("redis写入失败, pipeline/事务中不支持 SET NX.");
+		}
+		this.invalidateNearCache(key);
+		return result;
+	}
+
 	public String get(String key) {
-		log.info("获取redis数据, key:[ {} ].", key);
+		if (this.support.logEnabled()) {
+			this.support.logOperation("获取redis数据, key:[ {} ].", key);
+		}
 		if (StringUtils.isBlank(key)) {
 			log.info("获取redis数据失败, KEY不能为空.");
 			throw new RuntimeException("获取redis数据失败, KEY不能为空.");
 		} else {
+			RedisNearCache cache = this.nearCache;
+			if (cache != null && cache.accepts(key)) {
+				return cache.get(key, k -> this.template.opsForValue().get(k));
+			}
 			return (String)this.template.opsForValue().get(key);
 		}
 	}
 
 	public Integer getInteger(String key) {
-		log.info("获取redis数据(Integer), key:[ {} ].", key);
+		if (this.support.logEnabled()) {
+			this.support.logOperation("获取redis数据(Integer), key:[ {} ].", key);
+		}
 		String data = this.get(key);
 		if (StringUtils.isNotBlank(data)) {
 			if (StringUtils.isNumeric(data)) {
@@ -101,7 +202,9 @@ public class RedisRepository {
 	}
 
 	public boolean hasKey(String key) {
-		log.info("查询redis是否存在key:[ {} ].", key);
+		if (this.support.logEnabled()) {
+			this.support.logOperation("查询redis是否存在key:[ {} ].", key);
+		}
 		if (StringUtils.isBlank(key)) {
 			log.info("查询redis是否存在key失败, key不能为空.");
 			throw new RuntimeException("查询redis是否存在key失败, key不能为空.");
@@ -111,18 +214,58 @@ public class RedisRepository {
 	}
 
 	public Long increment(String key, int value) {
-		log.info("增量redis数据, key:[ {} ], value:[ {} ].", key, value);
+		if (this.support.logEnabled()) {
+			this.support.logOperation("增量redis数据, key:[ {} ], value:[ {} ].", key, value);
+		}
+		if (StringUtils.isBlank(key)) {
+			log.info("增量redis数据失败, KEY不能为空.");
+			throw new RuntimeException("增量redis数据失败, KEY不能为空.");
+		} else {
+			Long result = this.template.opsForValue().increment(key, (long)value);
+			this.invalidateNearCache(key);
+			return result;
+		}
+	}
+
+	public Long increment(String key, long value) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("增量redis数据, key:[ {} ], value:[ {} ].", key, value);
+		}
+		if (StringUtils.isBlank(key)) {
+			log.info("增量redis数据失败, KEY不能为空.");
+			throw new RuntimeException("增量redis数据失败, KEY不能为空.");
+		} else {
+			Long result = this.template.opsForValue().increment(key, value);
+			this.invalidateNearCache(key);
+			return result;
+		}
+	}
+
+	/**
+	 * 增量并在 key 首次创建时设置过期时间，通过 Lua 脚本一次往返原子完成
+	 * 脚本 SHA 由 DefaultRedisScript 缓存，执行时优先 EVALSHA
+	 *
+	 * @return 增加后的值
+	 */
+	public Long incrementAndExpire(String key, long value, long timeout, TimeUnit unit) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("增量redis数据, key:[ {} ], value:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", key, value, timeout, unit);
+		}
 		if (StringUtils.isBlank(key)) {
 			log.info("增量redis数据失败, KEY不能为空.");
 			throw new RuntimeException("增量redis数据失败, KEY不能为空.");
 		} else {
-			return this.template.opsForValue().increment(key, (long)value);
+			Long result = this.template.execute(INCREMENT_AND_EXPIRE_SCRIPT, Collections.singletonList(key), String.valueOf(value), String.valueOf(unit.toMillis(timeout)));
+			this.invalidateNearCache(key);
+			return result;
 		}
 	}
 
 	public boolean addSet(String key, Set<String> set) {
 		try {
-			log.info("写入redis set数据, key:[ {} ].", key);
+			if (this.support.logEnabled()) {
+				this.support.logOperation("写入redis set数据, key:[ {} ].", key);
+			}
 			if (StringUtils.isBlank(key)) {
 				log.info("写入redis set数据失败, KEY不能为空.");
 			} else {
@@ -143,7 +286,9 @@ public class RedisRepository {
 	public boolean updateSet(String key, Set<String> set) {
 		try {
 			this.deleteKey(key);
-			log.info("写入redis set数据, key:[ {} ].", key);
+			if (this.support.logEnabled()) {
+				this.support.logOperation("写入redis set数据, key:[ {} ].", key);
+			}
 			if (StringUtils.isBlank(key)) {
 				log.info("写入redis set数据失败, KEY不能为空.");
 			} else {
@@ -163,7 +308,9 @@ public class RedisRepository {
 
 	public boolean setSet(String key, String... values) {
 		try {
-			log.info("写入redis set数据, key:[ {} ], values:[ {} ].", key, JSONUtil.toJsonStr(values));
+			if (this.support.logEnabled()) {
+				this.support.logOperation("写入redis set数据, key:[ {} ], values:[ {} ].", key, JSONUtil.toJsonStr(values));
+			}
 			if (StringUtils.isBlank(key)) {
 				log.info("写入redis set数据失败, KEY不能为空.");
 			} else {
@@ -182,7 +329,9 @@ public class RedisRepository {
 	}
 
 	public Boolean isMember(String key, Object o) {
-		log.info("查看集合中是否存在指定数据, key:[ {} ], o:[ {} ].", key, o.toString());
+		if (this.support.logEnabled()) {
+			this.support.logOperation("查看集合中是否存在指定数据, key:[ {} ], o:[ {} ].", key, o);
+		}
 		if (StringUtils.isBlank(key)) {
 			log.info("查看集合中是否存在指定数据失败, key不能为空.");
 			throw new RuntimeException("查看集合中是否存在指定数据失败, key不能为空.");
@@ -196,7 +345,9 @@ public class RedisRepository {
 	}
 
 	public Boolean expire(String key, long timeout, TimeUnit unit) {
-		log.info("设置redis数据过期时间, key:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", new Object[]{key, timeout, unit.toString()});
+		if (this.support.logEnabled()) {
+			this.support.logOperation("设置redis数据过期时间, key:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", key, timeout, unit);
+		}
 		if (StringUtils.isBlank(key)) {
 			log.info("设置redis数据过期时间失败, key不能为空.");
 			throw new RuntimeException("设置redis数据过期时间失败, key不能为空.");
@@ -205,8 +356,28 @@ public class RedisRepository {
 		}
 	}
 
+	/**
+	 * 仅当 key 的当前值等于 value 时设置过期时间（原子操作），用于续期自己持有的锁/租约
+	 *
+	 * @return true-续期成功，false-key 不存在或已被他人持有
+	 */
+	public boolean expireIfValueEquals(String key, String value, long timeout, TimeUnit unit) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("续期redis数据, key:[ {} ], value:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", key, value, timeout, unit);
+		}
+		if (StringUtils.isBlank(key)) {
+			log.info("续期redis数据失败, key不能为空.");
+			throw new RuntimeException("续期redis数据失败, key不能为空.");
+		} else {
+			Long result = this.template.execute(EXPIRE_IF_EQUALS_SCRIPT, Collections.singletonList(key), value, String.valueOf(unit.toMillis(timeout)));
+			return result != null && result == 1L;
+		}
+	}
+
 	public Long getExpiry(String key) {
-		log.info("获取redis数据过期时间, key:[ {} ].", key);
+		if (this.support.logEnabled()) {
+			this.support.logOperation("获取redis数据过期时间, key:[ {} ].", key);
+		}
 		if (StringUtils.isBlank(key)) {
 			log.info("获取redis数据过期时间失败, key不能为空.");
 			throw new RuntimeException("获取redis数据过期时间失败, key不能为空.");
@@ -216,34 +387,328 @@ public class RedisRepository {
 	}
 
 	public void deleteKey(String key) {
-		log.info("删除redis数据, key:[ {} ].", key);
+		if (this.support.logEnabled()) {
+			this.support.logOperation("删除redis数据, key:[ {} ].", key);
+		}
 		if (StringUtils.isBlank(key)) {
 			log.info("删除redis数据失败, KEY不能为空.");
 			throw new RuntimeException("删除redis数据失败, KEY不能为空.");
 		} else {
 			this.template.delete(key);
+			this.invalidateNearCache(key);
+		}
+	}
+
+	/**
+	 * 仅当 key 的当前值等于 value 时删除（原子操作），用于释放自己持有的锁/租约
+	 *
+	 * @return true-删除成功，false-key 不存在或已被他人持有
+	 */
+	public boolean deleteIfValueEquals(String key, String value) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("删除redis数据, key:[ {} ], value:[ {} ].", key, value);
+		}
+		if (StringUtils.isBlank(key)) {
+			log.info("删除redis数据失败, KEY不能为空.");
+			throw new RuntimeException("删除redis数据失败, KEY不能为空.");
+		} else {
+			Long result = this.template.execute(DELETE_IF_EQUALS_SCRIPT, Collections.singletonList(key), value);
+			this.invalidateNearCache(key);
+			return result != null && result == 1L;
 		}
 	}
 
+	/**
+	 * 删除指定前缀的所有 key，使用默认的 SCAN COUNT，不限速
+	 *
+	 * @see #deleteKeyPrefix(String, int, int, LongConsumer)
+	 */
 	public void deleteKeyPrefix(String keyPrefix) {
-		log.info("删除redis数据, keyPrefix:[ {} ].", keyPrefix);
+		this.deleteKeyPrefix(keyPrefix, this.support.scanCount(), 0, null);
+	}
+
+	/**
+	 * 删除指定前缀的所有 key
+	 * 通过 SCAN 游标分批遍历（不使用阻塞的 KEYS），每累计 batchSize 个 key 执行一次 UNLINK（由 Redis 后台线程释放内存）
+	 *
+	 * @param keyPrefix key 前缀，可以以 * 结尾
+	 * @param scanCount 每次 SCAN 的 COUNT 提示值
+	 * @param maxKeysPerSecond 每秒最多删除的 key 数，小于等于 0 表示不限速
+	 * @param progress 每批删除后回调累计删除数，可以为 null
+	 * @return 删除的 key 数
+	 */
+	public long deleteKeyPrefix(String keyPrefix, int scanCount, int maxKeysPerSecond, LongConsumer progress) {
+		if (this.support.logEnabled()) {
+			this.support.logOperation("删除redis数据, keyPrefix:[ {} ], scanCount:[ {} ], maxKeysPerSecond:[ {} ].", keyPrefix, scanCount, maxKeysPerSecond);
+		}
 		if (StringUtils.isBlank(keyPrefix)) {
 			log.info("删除redis数据失败, keyPrefix不能为空.");
 			throw new RuntimeException("删除redis数据失败, keyPrefix不能为空.");
-		} else {
-			Set keySet;
-			if (keyPrefix.endsWith("*")) {
-				keySet = this.template.keys(keyPrefix);
-			} else {
-				keySet = this.template.keys(keyPrefix + "*");
+		}
+		if (scanCount <= 0) {
+			throw new IllegalArgumentException("scanCount must be positive: " + scanCount);
+		}
+		String pattern = keyPrefix.endsWith("*") ? keyPrefix : keyPrefix + "*";
+		ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanCount).build();
+		int unlinkSize = this.support.batchSize();
+		long start = System.nanoTime();
+		long deleted = 0;
+		List<String> batch = new ArrayList<>(unlinkSize);
+		try (Cursor<String> cursor = this.template.scan(options)) {
+			while (cursor.hasNext()) {
+				batch.add(cursor.next());
+				if (batch.size() >= unlinkSize) {
+					deleted = unlinkBatch(batch, deleted, start, maxKeysPerSecond, progress);
+				}
 			}
+		}
+		if (!batch.isEmpty()) {
+			deleted = unlinkBatch(batch, deleted, start, maxKeysPerSecond, progress);
+		}
+		RedisNearCache cache = this.nearCache;
+		if (cache != null) {
+			cache.invalidatePrefix(pattern.substring(0, pattern.length() - 1));
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("删除redis数据完成, keyPrefix:[ {} ], deleted:[ {} ].", keyPrefix, deleted);
+		}
+		return deleted;
+	}
 
-			this.template.delete(keySet);
+	/**
+	 * UNLINK 一批 key 并清空 batch，需要限速时按累计删除数休眠到允许的时间点
+	 *
+	 * @return 累计删除数
+	 */
+	private long unlinkBatch(List<String> batch, long deleted, long start, int maxKeysPerSecond, LongConsumer progress) {
+		Long count = this.template.unlink(batch);
+		batch.clear();
+		deleted += count == null ? 0 : count;
+		if (progress != null) {
+			progress.accept(deleted);
+		}
+		if (maxKeysPerSecond > 0) {
+			long expectedNanos = deleted * TimeUnit.SECONDS.toNanos(1) / maxKeysPerSecond;
+			long sleepNanos = expectedNanos - (System.nanoTime() - start);
+			if (sleepNanos > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(sleepNanos);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RuntimeException("删除redis数据被中断, 已删除:" + deleted, e);
+				}
+			}
 		}
+		return deleted;
 	}
 
+	/**
+	 * 更新值并保留原有的过期时间，通过 SET key value KEEPTTL 一次往返原子完成（需要 Redis 6.0+）
+	 * key 不存在时写入且不设置过期时间
+	 */
 	public boolean update(String key, String value) {
-		log.info("更新redis数据, key:[ {} ]", key);
-		return this.hasKey(key) ? this.set(key, value, this.getExpiry(value), TimeUnit.SECONDS) : this.set(key, value);
+		if (this.support.logEnabled()) {
+			this.support.logOperation("更新redis数据, key:[ {} ]", key);
+		}
+		if (StringUtils.isBlank(key)) {
+			log.info("更新redis数据失败, KEY不能为空.");
+			throw new RuntimeException("更新redis数据失败, KEY不能为空.");
+		}
+		if (StringUtils.isBlank(value)) {
+			return true;
+		}
+		try {
+			this.template.execute((RedisCallback<Boolean>) connection -> ((StringRedisConnection) connection)
+					.set(key, value, Expiration.keepTtl(), RedisStringCommands.SetOption.upsert()));
+			this.invalidateNearCache(key);
+			return true;
+		} catch (Exception var3) {
+			log.error("redis写入失败", var3);
+			return false;
+		}
+	}
+
+	/**
+	 * 批量获取(MGET)，按 batchSize 分批执行
+	 *
+	 * @param keys key 列表
+	 * @return 与 keys 顺序一致的值，不存在的 key 对应 null
+	 */
+	public List<String> multiGet(List<String> keys) {
+		if (CollectionUtils.isEmpty(keys)) {
+			return Collections.emptyList();
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("批量获取redis数据, size:[ {} ].", keys.size());
+		}
+		checkKeys(keys, "批量获取redis数据失败, KEY不能为空.");
+		int batchSize = this.support.batchSize();
+		List<String> values = new ArrayList<>(keys.size());
+		for (int from = 0; from < keys.size(); from += batchSize) {
+			List<String> chunk = keys.subList(from, Math.min(from + batchSize, keys.size()));
+			List<String> chunkValues = this.template.opsForValue().multiGet(chunk);
+			if (chunkValues == null) {
+				throw new RuntimeException("批量获取redis数据失败, pipeline/事务中不支持 MGET.");
+			}
+			values.addAll(chunkValues);
+		}
+		return values;
+	}
+
+	/**
+	 * 批量写入(MSET，不设置过期时间)，按 batchSize 分批执行，每批原子写入
+	 *
+	 * @param values key -> value
+	 */
+	public void multiSet(Map<String, String> values) {
+		if (CollectionUtils.isEmpty(values)) {
+			return;
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("批量写入redis数据, size:[ {} ].", values.size());
+		}
+		checkKeys(values.keySet(), "批量写入redis数据失败, KEY不能为空.");
+		int batchSize = this.support.batchSize();
+		Map<String, String> chunk = new HashMap<>(Math.min(values.size(), batchSize) * 4 / 3 + 1);
+		for (Map.Entry<String, String> entry : values.entrySet()) {
+			chunk.put(entry.getKey(), entry.getValue());
+			if (chunk.size() == batchSize) {
+				this.template.opsForValue().multiSet(chunk);
+				chunk.clear();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			this.template.opsForValue().multiSet(chunk);
+		}
+		this.invalidateNearCache(values.keySet());
+	}
+
+	/**
+	 * 批量写入并设置过期时间，按 batchSize 分批通过 pipeline 执行 SET key value PX timeout
+	 *
+	 * @param values key -> value
+	 * @param timeout 过期时间
+	 * @param unit 时间单位
+	 */
+	public void multiSet(Map<String, String> values, long timeout, TimeUnit unit) {
+		if (CollectionUtils.isEmpty(values)) {
+			return;
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("批量写入redis数据, size:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", values.size(), timeout, unit);
+		}
+		checkKeys(values.keySet(), "批量写入redis数据失败, KEY不能为空.");
+		int batchSize = this.support.batchSize();
+		Expiration expiration = Expiration.from(timeout, unit);
+		List<Map.Entry<String, String>> entries = new ArrayList<>(values.entrySet());
+		for (int from = 0; from < entries.size(); from += batchSize) {
+			List<Map.Entry<String, String>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+			this.template.executePipelined((RedisCallback<Object>) connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection) connection;
+				for (Map.Entry<String, String> entry : chunk) {
+					stringConnection.set(entry.getKey(), entry.getValue(), expiration, RedisStringCommands.SetOption.upsert());
+				}
+				return null;
+			});
+		}
+		this.invalidateNearCache(values.keySet());
+	}
+
+	/**
+	 * 批量增量(INCRBY)，按 batchSize 分批通过 pipeline 执行
+	 *
+	 * @param deltas key -> 增量，需要按输入顺序取结果时使用 LinkedHashMap
+	 * @return 与 deltas 迭代顺序一致的增加后的值
+	 */
+	public List<Long> multiIncrement(Map<String, Long> deltas) {
+		if (CollectionUtils.isEmpty(deltas)) {
+			return Collections.emptyList();
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("批量增量redis数据, size:[ {} ].", deltas.size());
+		}
+		checkKeys(deltas.keySet(), "批量增量redis数据失败, KEY不能为空.");
+		int batchSize = this.support.batchSize();
+		List<Map.Entry<String, Long>> entries = new ArrayList<>(deltas.entrySet());
+		List<Long> results = new ArrayList<>(entries.size());
+		for (int from = 0; from < entries.size(); from += batchSize) {
+			List<Map.Entry<String, Long>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+			List<Object> chunkResults = this.template.executePipelined((RedisCallback<Object>) connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection) connection;
+				for (Map.Entry<String, Long> entry : chunk) {
+					stringConnection.incrBy(entry.getKey(), entry.getValue());
+				}
+				return null;
+			});
+			for (Object result : chunkResults) {
+				results.add((Long) result);
+			}
+		}
+		this.invalidateNearCache(deltas.keySet());
+		return results;
+	}
+
+	/**
+	 * 批量设置过期时间，按 batchSize 分批通过 pipeline 执行 PEXPIRE
+	 *
+	 * @param keys key 列表
+	 * @param timeout 过期时间
+	 * @param unit 时间单位
+	 * @return 与 keys 顺序一致的结果，key 不存在时为 false
+	 */
+	public List<Boolean> multiExpire(List<String> keys, long timeout, TimeUnit unit) {
+		if (CollectionUtils.isEmpty(keys)) {
+			return Collections.emptyList();
+		}
+		if (this.support.logEnabled()) {
+			this.support.logOperation("批量设置redis数据过期时间, size:[ {} ], timeout:[ {} ], TimeUnit:[ {} ].", keys.size(), timeout, unit);
+		}
+		checkKeys(keys, "批量设置redis数据过期时间失败, key不能为空.");
+		int batchSize = this.support.batchSize();
+		long millis = unit.toMillis(timeout);
+		List<Boolean> results = new ArrayList<>(keys.size());
+		for (int from = 0; from < keys.size(); from += batchSize) {
+			List<String> chunk = keys.subList(from, Math.min(from + batchSize, keys.size()));
+			List<Object> chunkResults = this.template.executePipelined((RedisCallback<Object>) connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection) connection;
+				for (String key : chunk) {
+					stringConnection.pExpire(key, millis);
+				}
+				return null;
+			});
+			for (Object result : chunkResults) {
+				results.add(Boolean.TRUE.equals(result));
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * 本节点写入/删除后失效近端缓存中的 key
+	 */
+	private void invalidateNearCache(String key) {
+		RedisNearCache cache = this.nearCache;
+		if (cache != null) {
+			cache.invalidate(key);
+		}
+	}
+
+	private void invalidateNearCache(Collection<String> keys) {
+		RedisNearCache cache = this.nearCache;
+		if (cache != null) {
+			for (String key : keys) {
+				cache.invalidate(key);
+			}
+		}
+	}
+
+	static void checkKeys(Collection<String> keys, String message) {
+		for (String key : keys) {
+			if (StringUtils.isBlank(key)) {
+				log.info(message);
+				throw new RuntimeException(message);
+			}
+		}
 	}
+
 }
@@ -0,0 +1,100 @@
+package cn.xgt.universe.common.util;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * @author XGT
+ * @description RedisRepository 配置
+ * @date 2026/10/18
+ */
+@Data
+@ConfigurationProperties(prefix = "universe.redis")
+public class RedisRepositoryProperties {
+
+	/**
+	 * 每次 Redis 操作的日志策略，默认：DEBUG
+	 */
+	private LogLevel logLevel = LogLevel.DEBUG;
+
+	/**
+	 * logLevel = SAMPLED 时平均每多少次操作输出一条 INFO 日志，默认：100
+	 */
+	private int sampleRate = 100;
+
+	/**
+	 * 批量操作(multiGet / multiSet / multiIncrement / multiExpire)每次 MGET、MSET 或 pipeline 包含的最大 key 数，默认：500
+	 */
+	private int batchSize = 500;
+
+	/**
+	 * deleteKeyPrefix 每次 SCAN 的 COUNT 提示值，默认：1000
+	 */
+	private int scanCount = 1000;
+
+	/**
+	 * get 的近端(本地)缓存配置
+	 */
+	private NearCache nearCache = new NearCache();
+
+	@Data
+	public static class NearCache {
+
+		/**
+		 * 是否开启近端缓存，默认：false，需要同时引入 caffeine
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * 需要缓存的 key 前缀，只有匹配的 key 会被缓存，不能为空
+		 */
+		private List<String> keyPrefixes = new ArrayList<>();
+
+		/**
+		 * 最大缓存条数，超过后按 W-TinyLFU 淘汰，默认：10000
+		 */
+		private long maximumSize = 10000;
+
+		/**
+		 * 写入后过期时间（秒），也是跨节点失效通知丢失时的最长不一致时间，默认：60
+		 */
+		private long expireAfterWrite = 60;
+
+		/**
+		 * 是否订阅 keyspace 通知使其他节点的写入失效本地缓存，默认：true。
+		 * 需要 Redis 开启 notify-keyspace-events（至少包含 K、g、$、x）
+		 */
+		private boolean keyspaceInvalidation = true;
+
+		/**
+		 * keyspace 通知分发队列的长度，队列已满时丢弃通知（等待 expireAfterWrite 过期），默认：10000
+		 */
+		private int listenerQueueCapacity = 10000;
+	}
+
+	public enum LogLevel {
+		/**
+		 * 不输出操作日志（异常日志不受影响）
+		 */
+		OFF,
+
+		/**
+		 * 按 sampleRate 抽样输出 INFO 日志
+		 */
+		SAMPLED,
+
+		/**
+		 * 以 DEBUG 级别输出，日志级别未开启时不构造参数
+		 */
+		DEBUG,
+
+		/**
+		 * 每次操作都输出 INFO 日志（旧版行为）
+		 */
+		INFO
+	}
+}
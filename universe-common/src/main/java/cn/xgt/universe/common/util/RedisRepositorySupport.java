@@ -0,0 +1,94 @@
+package cn.xgt.universe.common.util;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author XGT
+ * @description RedisRepository 与 ReactiveRedisRepository 共用的操作日志策略与批量参数。
+ *              setProperties 先校验全部配置再整体替换，读取方不会看到新旧配置混合的中间状态；
+ *              日志输出到各自仓库类的 Logger，日志分类保持不变
+ * @date 2026/10/18
+ */
+final class RedisRepositorySupport {
+
+	private final Logger log;
+
+	private volatile Settings settings = new Settings(RedisRepositoryProperties.LogLevel.DEBUG, 100, 500, 1000);
+
+	RedisRepositorySupport(Logger log) {
+		this.log = log;
+	}
+
+	void setProperties(RedisRepositoryProperties properties) {
+		if (properties.getSampleRate() <= 0) {
+			throw new IllegalArgumentException("sampleRate must be positive: " + properties.getSampleRate());
+		}
+		if (properties.getBatchSize() <= 0) {
+			throw new IllegalArgumentException("batchSize must be positive: " + properties.getBatchSize());
+		}
+		if (properties.getScanCount() <= 0) {
+			throw new IllegalArgumentException("scanCount must be positive: " + properties.getScanCount());
+		}
+		this.settings = new Settings(properties.getLogLevel(), properties.getSampleRate(), properties.getBatchSize(),
+				properties.getScanCount());
+	}
+
+	/**
+	 * @return 批量操作每批的 key 数
+	 */
+	int batchSize() {
+		return settings.batchSize;
+	}
+
+	/**
+	 * @return deleteKeyPrefix 默认的 SCAN COUNT
+	 */
+	int scanCount() {
+		return settings.scanCount;
+	}
+
+	/**
+	 * 当前操作是否需要输出日志，调用方在返回 true 时才构造日志参数
+	 */
+	boolean logEnabled() {
+		Settings current = settings;
+		switch (current.logLevel) {
+			case DEBUG:
+				return log.isDebugEnabled();
+			case INFO:
+				return log.isInfoEnabled();
+			case SAMPLED:
+				return log.isInfoEnabled() && ThreadLocalRandom.current().nextInt(current.sampleRate) == 0;
+			default:
+				return false;
+		}
+	}
+
+	void logOperation(String format, Object... arguments) {
+		if (settings.logLevel == RedisRepositoryProperties.LogLevel.DEBUG) {
+			log.debug(format, arguments);
+		} else {
+			log.info(format, arguments);
+		}
+	}
+
+	private static final class Settings {
+
+		final RedisRepositoryProperties.LogLevel logLevel;
+
+		final int sampleRate;
+
+		final int batchSize;
+
+		final int scanCount;
+
+		Settings(RedisRepositoryProperties.LogLevel logLevel, int sampleRate, int batchSize, int scanCount) {
+			this.logLevel = logLevel;
+			this.sampleRate = sampleRate;
+			this.batchSize = batchSize;
+			this.scanCount = scanCount;
+		}
+	}
+}
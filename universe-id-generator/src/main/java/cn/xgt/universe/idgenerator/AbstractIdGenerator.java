@@ -0,0 +1,100 @@
+package cn.xgt.universe.idgenerator;
+
+/**
+ * @author XGT
+ * @description 数值型ID生成器的公共实现，子类只需实现 nextLong(String key)
+ *              key 为空时由子类决定使用的默认业务键。
+ *              Long 类型的方法只在返回时装箱，字符串类型的方法通过 IdFormatter 直接写入数字，不经过 Long
+ * @date 2026/10/18
+ */
+public abstract class AbstractIdGenerator implements IdGenerator {
+
+	@Override
+	public Long nextId(String key) {
+		return nextLong(key);
+	}
+
+	/**
+	 * 生成下一个ID（使用默认key）
+	 * @return ID
+	 */
+	@Override
+	public Long nextId() {
+		return nextId(null);
+	}
+
+	@Override
+	public long nextLong() {
+		return nextLong(null);
+	}
+
+	@Override
+	public String nextIdString(String key) {
+		return Long.toString(nextLong(key));
+	}
+
+	@Override
+	public String nextIdString() {
+		return nextIdString(null);
+	}
+
+	/**
+	 * 生成带前缀的ID
+	 * @param key 业务键
+	 * @param prefix 结果前缀拼接
+	 * @return ID
+	 */
+	@Override
+	public String nextIdWithPrefix(String key, String prefix) {
+		return IdFormatter.format(prefix, nextLong(key));
+	}
+
+	/**
+	 * 生成带前缀的ID（使用默认key）
+	 * @param prefix 结果前缀拼接
+	 * @return ID
+	 */
+	@Override
+	public String nextIdWithPrefix(String prefix) {
+		return nextIdWithPrefix(null, prefix);
+	}
+
+	/**
+	 * 生成带前缀、固定长度的ID
+	 * @param key 业务键
+	 * @param prefix 结果前缀拼接
+	 * @param length 序列号长度
+	 * @return ID
+	 */
+	@Override
+	public String nextIdWithPrefixAndLength(String key, String prefix, int length) {
+		return IdFormatter.format(prefix, nextLong(key), length);
+	}
+
+	/**
+	 * 批量生成ID，默认逐个生成，子类可按自身机制一次性预留
+	 * @param key 业务键
+	 * @param count 数量
+	 * @return ID数组
+	 */
+	@Override
+	public long[] nextIds(String key, int count) {
+		checkCount(count);
+		long[] ids = new long[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = nextLong(key);
+		}
+		return ids;
+	}
+
+	@Override
+	public long[] nextIds(int count) {
+		return nextIds(null, count);
+	}
+
+	protected static void checkCount(int count) {
+		if (count <= 0) {
+			throw new IllegalArgumentException("count must be positive: " + count);
+		}
+	}
+}
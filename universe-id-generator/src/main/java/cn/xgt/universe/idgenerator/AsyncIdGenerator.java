@@ -0,0 +1,228 @@
+package cn.xgt.universe.idgenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author XGT
+ * @description 数值型ID生成器的异步(CompletableFuture)版本，调用方无需阻塞等待 Redis。
+ *              同一业务键上并发的请求会合并：每个业务键同时最多只有一个取号任务在 executor 中执行，
+ *              任务一次取走所有排队的请求并调用一次 delegate.nextIds(key, n)（RedisIdGenerator 即一次 INCRBY n），再逐个完成。
+ *              排队与合并只使用无锁队列和计数器，不使用 synchronized，在虚拟线程上执行时不会因等待 Redis 而钉住载体线程。
+ *              字符串方法按 AbstractIdGenerator 的规则格式化数值ID，不适用于 UUID 等字符串型生成器。
+ *              Future 的非 Async 回调在取号线程上执行，耗时的后续处理请使用 thenXxxAsync
+ * @date 2026/10/18
+ */
+public class AsyncIdGenerator implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsyncIdGenerator.class);
+
+	/**
+	 * null 业务键在合并队列中的占位键，取号时仍以 null 传给 delegate
+	 */
+	private static final String DEFAULT_KEY = "";
+
+	private final IdGenerator delegate;
+
+	private final Executor executor;
+
+	/**
+	 * executor 由本类创建时为 true，close 时关闭
+	 */
+	private final boolean ownsExecutor;
+
+	private final int maxBatchSize;
+
+	private final ConcurrentHashMap<String, KeyQueue> queues = new ConcurrentHashMap<>();
+
+	/**
+	 * 使用 {@link #newDefaultExecutor(boolean)} 创建的执行器，运行在 JDK 21+ 时使用虚拟线程
+	 */
+	public AsyncIdGenerator(IdGenerator delegate, int maxBatchSize) {
+		this(delegate, newDefaultExecutor(true), maxBatchSize, true);
+	}
+
+	/**
+	 * @param executor 执行取号任务的执行器，由调用方管理生命周期
+	 */
+	public AsyncIdGenerator(IdGenerator delegate, Executor executor, int maxBatchSize) {
+		this(delegate, executor, maxBatchSize, false);
+	}
+
+	AsyncIdGenerator(IdGenerator delegate, Executor executor, int maxBatchSize, boolean ownsExecutor) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("IdGenerator cannot be null");
+		}
+		if (executor == null) {
+			throw new IllegalArgumentException("Executor cannot be null");
+		}
+		if (maxBatchSize <= 0) {
+			throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+		}
+		this.delegate = delegate;
+		this.executor = executor;
+		this.maxBatchSize = maxBatchSize;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	public CompletableFuture<Long> nextId(String key) {
+		CompletableFuture<Long> future = new CompletableFuture<>();
+		String queueKey = key == null ? DEFAULT_KEY : key;
+		KeyQueue queue = queues.get(queueKey);
+		if (queue == null) {
+			queue = queues.computeIfAbsent(queueKey, k -> new KeyQueue(key));
+		}
+		queue.waiters.offer(future);
+		// 先入队再计数：drain 读到 pending = n 时队列中至少有 n 个请求
+		if (queue.pending.getAndIncrement() == 0) {
+			submit(queue);
+		}
+		return future;
+	}
+
+	public CompletableFuture<Long> nextId() {
+		return nextId(null);
+	}
+
+	public CompletableFuture<String> nextIdString(String key) {
+		return nextId(key).thenApply(id -> Long.toString(id));
+	}
+
+	public CompletableFuture<String> nextIdString() {
+		return nextIdString(null);
+	}
+
+	public CompletableFuture<String> nextIdWithPrefix(String key, String prefix) {
+		return nextId(key).thenApply(id -> IdFormatter.format(prefix, id));
+	}
+
+	public CompletableFuture<String> nextIdWithPrefix(String prefix) {
+		return nextIdWithPrefix(null, prefix);
+	}
+
+	public CompletableFuture<String> nextIdWithPrefixAndLength(String key, String prefix, int length) {
+		return nextId(key).thenApply(id -> IdFormatter.format(prefix, id, length));
+	}
+
+	/**
+	 * 批量取号不参与合并，直接在 executor 中调用 delegate.nextIds
+	 */
+	public CompletableFuture<long[]> nextIds(String key, int count) {
+		if (count <= 0) {
+			CompletableFuture<long[]> future = new CompletableFuture<>();
+			future.completeExceptionally(new IllegalArgumentException("count must be positive: " + count));
+			return future;
+		}
+		return CompletableFuture.supplyAsync(() -> delegate.nextIds(key, count), executor);
+	}
+
+	public CompletableFuture<long[]> nextIds(int count) {
+		return nextIds(null, count);
+	}
+
+	public IdGenerator getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * 关闭自行创建的执行器，尚未完成的请求以 IllegalStateException 结束
+	 */
+	@Override
+	public void close() {
+		if (ownsExecutor) {
+			((ExecutorService) executor).shutdownNow();
+		}
+		for (KeyQueue queue : queues.values()) {
+			CompletableFuture<Long> future;
+			while ((future = queue.waiters.poll()) != null) {
+				future.completeExceptionally(new IllegalStateException("AsyncIdGenerator is closed"));
+			}
+		}
+	}
+
+	private void submit(KeyQueue queue) {
+		try {
+			executor.execute(() -> drain(queue));
+		} catch (RuntimeException e) {
+			// 执行器拒绝时由调用线程取号，保证已入队的请求都能完成
+			logger.warn("异步取号任务提交失败, 改为在调用线程执行: key={}", queue.key, e);
+			drain(queue);
+		}
+	}
+
+	/**
+	 * 取走排队的请求，每轮一次 nextIds，直到 pending 归零
+	 */
+	private void drain(KeyQueue queue) {
+		int pending = queue.pending.get();
+		while (true) {
+			int n = Math.min(pending, maxBatchSize);
+			@SuppressWarnings("unchecked")
+			CompletableFuture<Long>[] batch = new CompletableFuture[n];
+			for (int i = 0; i < n; i++) {
+				batch[i] = queue.waiters.poll();
+			}
+			try {
+				long[] ids = delegate.nextIds(queue.key, n);
+				for (int i = 0; i < n; i++) {
+					batch[i].complete(ids[i]);
+				}
+			} catch (Throwable e) {
+				for (int i = 0; i < n; i++) {
+					batch[i].completeExceptionally(e);
+				}
+			}
+			pending = queue.pending.addAndGet(-n);
+			if (pending == 0) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 默认执行器：运行在 JDK 21+ 且 preferVirtualThreads 为 true 时为每个任务一个虚拟线程，
+	 * 否则为按需创建、空闲 60 秒回收的守护线程池。同一业务键最多占用一个线程
+	 */
+	public static ExecutorService newDefaultExecutor(boolean preferVirtualThreads) {
+		if (preferVirtualThreads) {
+			try {
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException e) {
+				// JDK 21 以下没有虚拟线程
+			}
+		}
+		AtomicInteger counter = new AtomicInteger();
+		return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+			Thread thread = new Thread(r, "universe-id-async-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 单个业务键的等待队列
+	 */
+	static final class KeyQueue {
+
+		final String key;
+
+		final ConcurrentLinkedQueue<CompletableFuture<Long>> waiters = new ConcurrentLinkedQueue<>();
+
+		final AtomicInteger pending = new AtomicInteger();
+
+		KeyQueue(String key) {
+			this.key = key;
+		}
+	}
+}
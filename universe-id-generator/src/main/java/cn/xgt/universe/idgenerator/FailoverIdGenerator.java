@@ -0,0 +1,275 @@
+package cn.xgt.universe.idgenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author XGT
+ * @description 带熔断降级的ID生成器
+ *              正常情况下委托 primary(Redis) 发号；primary 连续失败达到阈值后熔断，熔断期间请求线程不再等待 Redis 超时：
+ *              先消耗 primary 本地已领取的号段(SegmentIdGenerator)，号段耗尽后改用 fallback(雪花算法)发号。
+ *              熔断到期后只放行一个探测请求，成功则恢复，失败则继续熔断；primary 为 SegmentIdGenerator 时探测请求强制向 Redis 领取新号段，
+ *              不会由本地号段满足，号段的后台预取失败同样计入熔断。
+ *              雪花ID以 (当前时间 - epoch) << (workerBits + sequenceBits) 开头，远大于 Redis 计数器的取值，
+ *              每次降级发号都会校验其大于已观测到的最大 Redis ID，不满足时抛出异常而不是发出可能重复的ID。
+ *              该校验只覆盖本节点见过的ID，节点之间的降级ID不重复依赖各节点显式配置互不相同的机器ID
+ * @date 2026/10/18
+ */
+public class FailoverIdGenerator extends AbstractIdGenerator implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(FailoverIdGenerator.class);
+
+	public enum State {
+		/**
+		 * 正常，使用 primary 发号
+		 */
+		CLOSED,
+
+		/**
+		 * 熔断，使用本地号段和 fallback 发号
+		 */
+		OPEN,
+
+		/**
+		 * 探测中，一个请求正在尝试 primary
+		 */
+		HALF_OPEN
+	}
+
+	private final IdGenerator primary;
+
+	private final IdGenerator fallback;
+
+	private final int failureThreshold;
+
+	private final long openDurationNanos;
+
+	private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+	private volatile long openedAt;
+
+	/**
+	 * primary 发出的最大ID，用于校验降级ID与 Redis 序列不相交
+	 */
+	private final LongAccumulator maxPrimaryId = new LongAccumulator(Math::max, 0);
+
+	private final LongAdder primaryFailures = new LongAdder();
+
+	private final LongAdder localIds = new LongAdder();
+
+	private final LongAdder fallbackIds = new LongAdder();
+
+	private final LongAdder openCount = new LongAdder();
+
+	private final LongAdder closeCount = new LongAdder();
+
+	/**
+	 * @param primary 主生成器，通常为 RedisIdGenerator / SegmentIdGenerator
+	 * @param fallback 降级生成器，通常为 snowflakeIdGenerator，需与 primary 的ID范围不相交且各节点互不相同
+	 * @param config 降级配置
+	 */
+	public FailoverIdGenerator(IdGenerator primary, IdGenerator fallback, IdGeneratorProperties.Failover config) {
+		if (primary == null || fallback == null) {
+			throw new IllegalArgumentException("Failover primary and fallback must not be null");
+		}
+		if (config.getFailureThreshold() <= 0) {
+			throw new IllegalArgumentException("Failover failureThreshold must be positive: " + config.getFailureThreshold());
+		}
+		if (config.getOpenDuration() <= 0) {
+			throw new IllegalArgumentException("Failover openDuration must be positive: " + config.getOpenDuration());
+		}
+		this.primary = primary;
+		this.fallback = fallback;
+		this.failureThreshold = config.getFailureThreshold();
+		this.openDurationNanos = TimeUnit.SECONDS.toNanos(config.getOpenDuration());
+		if (primary instanceof SegmentIdGenerator) {
+			((SegmentIdGenerator) primary).setPrefetchFailureListener(this::onPrimaryFailure);
+		}
+	}
+
+	@Override
+	public long nextLong(String key) {
+		State permission = acquirePermission();
+		if (permission != State.OPEN) {
+			try {
+				if (permission == State.HALF_OPEN) {
+					probe(key);
+				}
+				long id = primary.nextLong(key);
+				onPrimarySuccess(id);
+				return id;
+			} catch (RuntimeException e) {
+				onPrimaryFailure(key, e);
+			}
+		}
+		return nextDegraded(key);
+	}
+
+	@Override
+	public long[] nextIds(String key, int count) {
+		checkCount(count);
+		State permission = acquirePermission();
+		if (permission != State.OPEN) {
+			try {
+				if (permission == State.HALF_OPEN) {
+					probe(key);
+				}
+				long[] ids = primary.nextIds(key, count);
+				onPrimarySuccess(ids[count - 1]);
+				return ids;
+			} catch (RuntimeException e) {
+				onPrimaryFailure(key, e);
+			}
+		}
+		long[] ids = new long[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = nextDegraded(key);
+		}
+		return ids;
+	}
+
+	/**
+	 * 关闭 primary（fallback 为独立的 Bean，由容器负责关闭）
+	 */
+	@Override
+	public void close() throws Exception {
+		if (primary instanceof AutoCloseable) {
+			((AutoCloseable) primary).close();
+		}
+	}
+
+	public IdGenerator getPrimary() {
+		return primary;
+	}
+
+	public IdGenerator getFallback() {
+		return fallback;
+	}
+
+	/**
+	 * @return 熔断器当前状态
+	 */
+	public State getState() {
+		return state.get();
+	}
+
+	/**
+	 * @return primary 累计失败次数
+	 */
+	public long getPrimaryFailures() {
+		return primaryFailures.sum();
+	}
+
+	/**
+	 * @return 降级期间从本地号段发出的ID数
+	 */
+	public long getLocalIds() {
+		return localIds.sum();
+	}
+
+	/**
+	 * @return 由 fallback 发出的ID数
+	 */
+	public long getFallbackIds() {
+		return fallbackIds.sum();
+	}
+
+	/**
+	 * @return 进入熔断的次数
+	 */
+	public long getOpenCount() {
+		return openCount.sum();
+	}
+
+	/**
+	 * @return 从熔断恢复的次数
+	 */
+	public long getCloseCount() {
+		return closeCount.sum();
+	}
+
+	/**
+	 * CLOSED 时放行；OPEN 且已到期时只有一个线程能切到 HALF_OPEN 并放行探测，其余线程直接降级
+	 *
+	 * @return CLOSED-正常使用 primary，HALF_OPEN-本线程为探测请求，OPEN-降级
+	 */
+	private State acquirePermission() {
+		State current = state.get();
+		if (current == State.CLOSED) {
+			return State.CLOSED;
+		}
+		if (current == State.OPEN
+				&& System.nanoTime() - openedAt >= openDurationNanos
+				&& state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+			return State.HALF_OPEN;
+		}
+		return State.OPEN;
+	}
+
+	/**
+	 * 探测请求必须访问 Redis：号段模式下强制领取新号段，避免由本地号段满足而在 Redis 仍不可用时恢复
+	 */
+	private void probe(String key) {
+		if (primary instanceof SegmentIdGenerator) {
+			((SegmentIdGenerator) primary).reload(key);
+		}
+	}
+
+	private void onPrimarySuccess(long id) {
+		maxPrimaryId.accumulate(id);
+		if (consecutiveFailures.get() != 0) {
+			consecutiveFailures.set(0);
+		}
+		if (state.get() == State.HALF_OPEN && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+			closeCount.increment();
+			logger.warn("ID生成器恢复使用 Redis: localIds={}, fallbackIds={}", localIds.sum(), fallbackIds.sum());
+		}
+	}
+
+	private void onPrimaryFailure(String key, RuntimeException e) {
+		primaryFailures.increment();
+		if (state.get() == State.HALF_OPEN) {
+			openedAt = System.nanoTime();
+			if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+				logger.warn("ID生成器探测 Redis 失败，继续熔断: key={}", key, e);
+			}
+			return;
+		}
+		if (consecutiveFailures.incrementAndGet() >= failureThreshold && state.get() == State.CLOSED) {
+			openedAt = System.nanoTime();
+			if (state.compareAndSet(State.CLOSED, State.OPEN)) {
+				openCount.increment();
+				logger.warn("ID生成器连续 {} 次访问 Redis 失败，熔断 {} 秒并降级发号: key={}",
+						consecutiveFailures.get(), TimeUnit.NANOSECONDS.toSeconds(openDurationNanos), key, e);
+			}
+		}
+	}
+
+	/**
+	 * 降级发号：优先本地号段，其次 fallback
+	 */
+	private long nextDegraded(String key) {
+		if (primary instanceof SegmentIdGenerator) {
+			long id = ((SegmentIdGenerator) primary).tryNextLocal(key);
+			if (id > 0) {
+				localIds.increment();
+				return id;
+			}
+		}
+		long id = fallback.nextLong();
+		long max = maxPrimaryId.get();
+		if (id <= max) {
+			throw new IllegalStateException("Fallback id " + id + " is not above the max Redis id " + max + ", refusing to issue a possibly duplicate id");
+		}
+		fallbackIds.increment();
+		return id;
+	}
+}
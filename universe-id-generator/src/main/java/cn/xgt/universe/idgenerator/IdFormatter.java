@@ -0,0 +1,155 @@
+package cn.xgt.universe.idgenerator;
+
+/**
+ * @author XGT
+ * @description ID字符串格式化工具
+ *              前缀与数字直接写入线程内复用的 char[]，每次只分配结果 String 本身，
+ *              不经过 Long.toString 与字符串拼接产生的中间对象
+ * @date 2026/10/18
+ */
+public final class IdFormatter {
+
+	private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+	private IdFormatter() {
+	}
+
+	/**
+	 * 前缀 + ID，结果与 prefix + id 一致
+	 *
+	 * @param prefix 前缀
+	 * @param id ID
+	 * @return 格式化的ID字符串，如：ORDER_10001
+	 */
+	public static String format(String prefix, long id) {
+		if (prefix == null) {
+			prefix = "null";
+		}
+		int prefixLength = prefix.length();
+		int length = prefixLength + stringSize(id);
+		char[] buf = buffer(length);
+		prefix.getChars(0, prefixLength, buf, 0);
+		getChars(id, length, buf);
+		return new String(buf, 0, length);
+	}
+
+	/**
+	 * 前缀 + 固定长度ID（不足补0），结果与 prefix + String.format("%0" + length + "d", id) 一致，
+	 * 但不解析格式串、不创建 Formatter，也不做本地化数字替换
+	 *
+	 * @param prefix 前缀
+	 * @param id ID
+	 * @param length ID数字部分最小长度（负号计入长度），超出时不截断
+	 * @return 格式化的ID字符串，如：ORDER_00001
+	 */
+	public static String format(String prefix, long id, int length) {
+		if (prefix == null) {
+			prefix = "null";
+		}
+		int size = size(prefix, id, length);
+		char[] buf = buffer(size);
+		formatTo(buf, 0, prefix, id, length);
+		return new String(buf, 0, size);
+	}
+
+	/**
+	 * 格式化结果的字符数，用于预先分配缓冲区
+	 *
+	 * @param prefix 前缀，不能为null
+	 * @param id ID
+	 * @param length ID数字部分最小长度
+	 * @return 字符数
+	 */
+	public static int size(String prefix, long id, int length) {
+		checkLength(length);
+		return prefix.length() + Math.max(stringSize(id), length);
+	}
+
+	/**
+	 * 将 前缀 + 固定长度ID 写入 dst[offset, offset + size)，调用方需保证 dst 足够大
+	 *
+	 * @param dst 目标缓冲区
+	 * @param offset 写入起始位置
+	 * @param prefix 前缀，不能为null
+	 * @param id ID
+	 * @param length ID数字部分最小长度
+	 * @return 写入的字符数
+	 */
+	public static int formatTo(char[] dst, int offset, String prefix, long id, int length) {
+		checkLength(length);
+		int prefixLength = prefix.length();
+		int digits = stringSize(id);
+		int pad = Math.max(0, length - digits);
+		int end = offset + prefixLength + pad + digits;
+
+		prefix.getChars(0, prefixLength, dst, offset);
+		getChars(id, end, dst);
+		if (pad > 0) {
+			int start = offset + prefixLength;
+			if (id < 0) {
+				// 负号在补0之前：-0003
+				dst[start++] = '-';
+			}
+			for (int i = 0; i < pad; i++) {
+				dst[start + i] = '0';
+			}
+		}
+		return end - offset;
+	}
+
+	private static void checkLength(int length) {
+		if (length <= 0) {
+			throw new IllegalArgumentException("length must be positive: " + length);
+		}
+	}
+
+	/**
+	 * 获取至少 length 长度的线程内缓冲区
+	 */
+	static char[] buffer(int length) {
+		char[] buf = BUFFER.get();
+		if (buf.length < length) {
+			buf = new char[Math.max(length, buf.length * 2)];
+			BUFFER.set(buf);
+		}
+		return buf;
+	}
+
+	/**
+	 * long 的十进制字符数（含负号）
+	 */
+	static int stringSize(long x) {
+		int d = 1;
+		if (x >= 0) {
+			d = 0;
+			x = -x;
+		}
+		long p = -10;
+		for (int i = 1; i < 19; i++) {
+			if (x > p) {
+				return i + d;
+			}
+			p = 10 * p;
+		}
+		return 19 + d;
+	}
+
+	/**
+	 * 将 long 的十进制数字从 buf[index - 1] 开始向前写入（按负数处理以兼容 Long.MIN_VALUE）
+	 */
+	static void getChars(long i, int index, char[] buf) {
+		boolean negative = i < 0;
+		if (!negative) {
+			i = -i;
+		}
+		while (i <= -10) {
+			long q = i / 10;
+			buf[--index] = (char) ('0' + (q * 10 - i));
+			i = q;
+		}
+		buf[--index] = (char) ('0' - i);
+		if (negative) {
+			buf[--index] = '-';
+		}
+	}
+}
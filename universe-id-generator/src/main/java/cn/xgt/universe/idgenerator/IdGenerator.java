@@ -22,6 +22,34 @@ public interface IdGenerator {
 	 */
 	Long nextId();
 
+	/**
+	 * 生成下一个ID（原始 long，不装箱）。
+	 * 默认由 nextId(key) 拆箱，内置的数值型生成器直接生成 long
+	 *
+	 * @param key 业务键，用于区分不同业务的ID序列
+	 * @return 生成的ID
+	 */
+	default long nextLong(String key) {
+		Long id = nextId(key);
+		if (id == null) {
+			throw new IllegalStateException("IdGenerator returned null id");
+		}
+		return id;
+	}
+
+	/**
+	 * 生成下一个ID（原始 long，不装箱，使用默认key）
+	 *
+	 * @return 生成的ID
+	 */
+	default long nextLong() {
+		Long id = nextId();
+		if (id == null) {
+			throw new IllegalStateException("IdGenerator returned null id");
+		}
+		return id;
+	}
+
 	/**
 	 * 生成下一个ID字符串（支持UUID等字符串类型）
 	 *
@@ -63,4 +91,33 @@ public interface IdGenerator {
 	 * @return 格式化的ID字符串，如：ORDER_00001
 	 */
 	String nextIdWithPrefixAndLength(String key, String prefix, int length);
+
+	/**
+	 * 批量生成ID，一次预留 count 个ID。
+	 * 默认逐个调用 nextLong(key)，内置生成器按自身机制一次性预留
+	 *
+	 * @param key 业务键
+	 * @param count 数量，必须大于0
+	 * @return 生成的ID数组
+	 */
+	default long[] nextIds(String key, int count) {
+		if (count <= 0) {
+			throw new IllegalArgumentException("count must be positive: " + count);
+		}
+		long[] ids = new long[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = nextLong(key);
+		}
+		return ids;
+	}
+
+	/**
+	 * 批量生成ID（使用默认key）
+	 *
+	 * @param count 数量，必须大于0
+	 * @return 生成的ID数组
+	 */
+	default long[] nextIds(int count) {
+		return nextIds(null, count);
+	}
 }
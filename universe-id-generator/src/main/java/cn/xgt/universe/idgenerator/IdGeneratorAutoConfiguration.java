@@ -5,25 +5,38 @@ package cn.xgt.universe.idgenerator;
  * @description TODOID生成器自动配置类
  * @date 2025/11/4
  */
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import cn.xgt.universe.common.util.ReactiveRedisRepository;
 import cn.xgt.universe.common.util.RedisRepository;
+import cn.xgt.universe.common.util.RedisRepositoryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
+@AutoConfigureAfter(name = {"org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration"})
 @ConditionalOnClass({StringRedisTemplate.class})
 @ConditionalOnProperty(prefix = "universe.id-generator", name = "enabled", havingValue = "true", matchIfMissing = true)
-@EnableConfigurationProperties(IdGeneratorProperties.class)
+@EnableConfigurationProperties({IdGeneratorProperties.class, RedisRepositoryProperties.class})
 public class IdGeneratorAutoConfiguration {
 
 	/**
 	 * 创建 RedisRepository Bean
 	 * 如果项目中没有自定义的 IdRedisRepository，则创建默认的
+	 * 日志策略由 universe.redis.log-level 配置，通过 setProperties 注入
 	 */
 	@Bean
 	@ConditionalOnMissingBean
@@ -34,17 +47,81 @@ public class IdGeneratorAutoConfiguration {
 	/**
 	 * 创建 IdGenerator Bean
 	 * 通过方法参数注入依赖，确保依赖正确注入
+	 * mode = SEGMENT 时使用号段模式，否则每个ID执行一次 INCR
+	 * failover.enabled = true 时包装为 FailoverIdGenerator，Redis 不可用时降级到 snowflakeIdGenerator；
+	 * 降级ID跨节点不重复依赖机器ID唯一，而租约在 Redis 不可用期间会过期，因此要求显式配置 snowflake.worker-id 且不开启租约
 	 */
 	@Bean("redisIdGenerator")
 	@ConditionalOnMissingBean(name = "redisIdGenerator")
-	public IdGenerator idGenerator(RedisRepository redisRepository, IdGeneratorProperties properties) {
-		return new RedisIdGenerator(redisRepository, properties);
+	public IdGenerator idGenerator(RedisRepository redisRepository, IdGeneratorProperties properties,
+			@Qualifier("snowflakeIdGenerator") ObjectProvider<IdGenerator> snowflakeIdGenerator) {
+		IdGenerator generator;
+		if (properties.getMode() == IdGeneratorProperties.Mode.SEGMENT) {
+			generator = new SegmentIdGenerator(redisRepository, properties);
+		} else {
+			generator = new RedisIdGenerator(redisRepository, properties);
+		}
+		if (properties.getFailover().isEnabled()) {
+			IdGenerator fallback = snowflakeIdGenerator.getIfAvailable();
+			if (properties.getSnowflake().isLeaseEnabled() || fallback == null) {
+				throw new IllegalStateException("universe.id-generator.failover.enabled=true requires an explicit, per-node "
+						+ "universe.id-generator.snowflake.worker-id with universe.id-generator.snowflake.lease-enabled=false"
+						+ ": a leased worker id is fenced once Redis is unreachable for longer than the lease ttl, "
+						+ "and the default worker id 0 is shared by every node");
+			}
+			return new FailoverIdGenerator(generator, fallback, properties.getFailover());
+		}
+		return generator;
+	}
+
+	/**
+	 * redisIdGenerator 的异步版本，同一业务键的并发请求合并为一次 INCRBY
+	 */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnMissingBean
+	public AsyncIdGenerator asyncIdGenerator(@Qualifier("redisIdGenerator") IdGenerator redisIdGenerator, IdGeneratorProperties properties) {
+		IdGeneratorProperties.Async async = properties.getAsync();
+		return new AsyncIdGenerator(redisIdGenerator, AsyncIdGenerator.newDefaultExecutor(async.isVirtualThreads()), async.getMaxBatchSize(), true);
 	}
 
 	@Bean("uuidIdGenerator")
 	@ConditionalOnMissingBean(name = "uuidIdGenerator")
-	public IdGenerator uuidIdGenerator() {
-		return new UuidIdGenerator();
+	public IdGenerator uuidIdGenerator(IdGeneratorProperties properties) {
+		return new UuidIdGenerator(properties.getUuid().isFastRandom());
+	}
+
+	/**
+	 * 时间有序的 UUIDv7 / ULID 生成器，适合作为数据库主键
+	 */
+	@Bean("timeOrderedIdGenerator")
+	@ConditionalOnMissingBean(name = "timeOrderedIdGenerator")
+	public IdGenerator timeOrderedIdGenerator(IdGeneratorProperties properties) {
+		return new TimeOrderedIdGenerator(properties.getTimeOrdered().getFormat());
+	}
+
+	/**
+	 * 雪花算法机器ID租约，snowflake.lease-enabled = true 时启用
+	 */
+	@Bean(initMethod = "acquire", destroyMethod = "close")
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = "universe.id-generator.snowflake", name = "lease-enabled", havingValue = "true")
+	public RedisWorkerIdLease redisWorkerIdLease(RedisRepository redisRepository, IdGeneratorProperties properties) {
+		return new RedisWorkerIdLease(redisRepository, properties);
+	}
+
+	/**
+	 * 存在机器ID租约时使用租用的机器ID，否则使用配置的 snowflake.worker-id
+	 * 只在开启租约或显式配置 snowflake.worker-id 时注册，避免多节点都使用默认的机器ID 0
+	 */
+	@Bean("snowflakeIdGenerator")
+	@ConditionalOnMissingBean(name = "snowflakeIdGenerator")
+	@Conditional(OnSnowflakeWorkerIdCondition.class)
+	public IdGenerator snowflakeIdGenerator(IdGeneratorProperties properties, ObjectProvider<RedisWorkerIdLease> lease) {
+		RedisWorkerIdLease workerIdLease = lease.getIfAvailable();
+		if (workerIdLease != null) {
+			return new SnowflakeIdGenerator(properties.getSnowflake(), workerIdLease);
+		}
+		return new SnowflakeIdGenerator(properties.getSnowflake());
 	}
 
 	/**
@@ -55,4 +132,59 @@ public class IdGeneratorAutoConfiguration {
 	public IdGeneratorFactory idGeneratorFactory() {
 		return new IdGeneratorFactory();
 	}
+
+	/**
+	 * snowflake.lease-enabled = true 或显式配置了 snowflake.worker-id
+	 */
+	static class OnSnowflakeWorkerIdCondition extends AnyNestedCondition {
+
+		OnSnowflakeWorkerIdCondition() {
+			super(ConfigurationPhase.REGISTER_BEAN);
+		}
+
+		@ConditionalOnProperty(prefix = "universe.id-generator.snowflake", name = "lease-enabled", havingValue = "true")
+		static class LeaseEnabled {
+		}
+
+		@ConditionalOnProperty(prefix = "universe.id-generator.snowflake", name = "worker-id")
+		static class WorkerIdConfigured {
+		}
+	}
+
+	/**
+	 * 引入 reactor-core 且容器中存在 ReactiveStringRedisTemplate 时，创建非阻塞的 ReactiveRedisRepository 与 ReactiveIdGenerator
+	 */
+	@Configuration
+	@ConditionalOnClass(name = {"reactor.core.publisher.Mono", "org.springframework.data.redis.core.ReactiveStringRedisTemplate"})
+	@ConditionalOnBean(type = "org.springframework.data.redis.core.ReactiveStringRedisTemplate")
+	static class ReactiveConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public ReactiveRedisRepository reactiveRedisRepository(ReactiveStringRedisTemplate reactiveStringRedisTemplate) {
+			return new ReactiveRedisRepository(reactiveStringRedisTemplate);
+		}
+
+		@Bean("reactiveRedisIdGenerator")
+		@ConditionalOnMissingBean(name = "reactiveRedisIdGenerator")
+		public ReactiveIdGenerator reactiveRedisIdGenerator(ReactiveRedisRepository reactiveRedisRepository, IdGeneratorProperties properties) {
+			return new ReactiveRedisIdGenerator(reactiveRedisRepository, properties);
+		}
+	}
+
+	/**
+	 * 引入 micrometer-core 且 metrics.enabled 不为 false 时，为 IdGenerator Bean 记录指标，metrics.excludes 中的 Bean 除外
+	 * 通过子类代理织入，Bean 的具体类型不变；容器中没有 MeterRegistry 时不做代理
+	 */
+	@Configuration
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+	@ConditionalOnProperty(prefix = "universe.id-generator.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+	static class MetricsConfiguration {
+
+		@Bean
+		public static IdGeneratorMetricsPostProcessor idGeneratorMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+				ObjectProvider<IdGeneratorProperties> properties) {
+			return new IdGeneratorMetricsPostProcessor(meterRegistry, properties);
+		}
+	}
 }
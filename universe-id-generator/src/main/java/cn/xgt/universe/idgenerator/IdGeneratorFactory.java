@@ -75,6 +75,24 @@ public class IdGeneratorFactory {
 		return getGenerator("uuidIdGenerator");
 	}
 
+	/**
+	 * 获取时间有序（UUIDv7 / ULID）ID 生成器
+	 *
+	 * @return 时间有序 ID 生成器
+	 */
+	public IdGenerator getTimeOrderedGenerator() {
+		return getGenerator("timeOrderedIdGenerator");
+	}
+
+	/**
+	 * 获取雪花算法 ID 生成器
+	 *
+	 * @return 雪花算法 ID 生成器
+	 */
+	public IdGenerator getSnowflakeGenerator() {
+		return getGenerator("snowflakeIdGenerator");
+	}
+
 	/**
 	 * 获取所有可用的生成器名称
 	 *
@@ -0,0 +1,73 @@
+package cn.xgt.universe.idgenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @author XGT
+ * @description 为容器中的 IdGenerator Bean 织入 IdGeneratorMetricsInterceptor。
+ *              使用子类(CGLIB)代理，Bean 的具体类型不变，按 TimeOrderedIdGenerator、SegmentIdGenerator 等具体类型注入或强转均不受影响；
+ *              Bean 已经是 AOP 代理时直接追加拦截器。final 类无法生成子类代理，不记录指标。
+ *              MeterRegistry 在织入时按需获取，容器中没有 MeterRegistry 或 Bean 名称在 metrics.excludes 中时原样返回，不增加任何开销
+ * @date 2026/10/18
+ */
+public class IdGeneratorMetricsPostProcessor implements BeanPostProcessor {
+
+	private static final Logger logger = LoggerFactory.getLogger(IdGeneratorMetricsPostProcessor.class);
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	private final ObjectProvider<IdGeneratorProperties> properties;
+
+	public IdGeneratorMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<IdGeneratorProperties> properties) {
+		this.meterRegistry = meterRegistry;
+		this.properties = properties;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		if (!(bean instanceof IdGenerator)) {
+			return bean;
+		}
+		IdGeneratorProperties config = properties.getIfAvailable();
+		if (config != null && config.getMetrics().getExcludes().contains(beanName)) {
+			return bean;
+		}
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry == null) {
+			return bean;
+		}
+
+		List<String> taggedKeys = config == null ? Collections.emptyList() : config.getMetrics().getKeys();
+
+		if (bean instanceof Advised) {
+			Advised advised = (Advised) bean;
+			Object target = AopProxyUtils.getSingletonTarget(bean);
+			if (!advised.isFrozen() && target instanceof IdGenerator) {
+				advised.addAdvice(new IdGeneratorMetricsInterceptor((IdGenerator) target, beanName, registry, taggedKeys));
+				return bean;
+			}
+		}
+		if (AopUtils.isAopProxy(bean) || Modifier.isFinal(bean.getClass().getModifiers())) {
+			logger.debug("IdGenerator Bean 无法生成子类代理, 不记录指标: beanName={}, class={}", beanName, bean.getClass().getName());
+			return bean;
+		}
+		ProxyFactory proxyFactory = new ProxyFactory(bean);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(new IdGeneratorMetricsInterceptor((IdGenerator) bean, beanName, registry, taggedKeys));
+		return proxyFactory.getProxy(bean.getClass().getClassLoader());
+	}
+}
@@ -8,6 +8,9 @@ package cn.xgt.universe.idgenerator;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import lombok.Data;
 
 @Data
@@ -33,4 +36,251 @@ public class IdGeneratorProperties {
 	 * 是否启用ID生成器，默认：true
 	 */
 	private boolean enabled = true;
+
+	/**
+	 * redisIdGenerator 的ID分配模式，默认：INCREMENT
+	 */
+	private Mode mode = Mode.INCREMENT;
+
+	/**
+	 * 号段模式配置(mode = SEGMENT 时生效)
+	 */
+	private Segment segment = new Segment();
+
+	/**
+	 * 雪花算法配置(snowflakeIdGenerator)
+	 */
+	private Snowflake snowflake = new Snowflake();
+
+	/**
+	 * UUID 配置(uuidIdGenerator)
+	 */
+	private Uuid uuid = new Uuid();
+
+	/**
+	 * 时间有序ID配置(timeOrderedIdGenerator)
+	 */
+	private TimeOrdered timeOrdered = new TimeOrdered();
+
+	/**
+	 * Redis 不可用时的降级配置(redisIdGenerator)
+	 */
+	private Failover failover = new Failover();
+
+	/**
+	 * Micrometer 指标配置
+	 */
+	private Metrics metrics = new Metrics();
+
+	/**
+	 * 异步取号配置(asyncIdGenerator)
+	 */
+	private Async async = new Async();
+
+	public enum Mode {
+		/**
+		 * 每个ID执行一次 Redis INCR
+		 */
+		INCREMENT,
+
+		/**
+		 * 号段模式：每次 INCRBY step 领取一段ID，在本地内存中分发
+		 */
+		SEGMENT
+	}
+
+	@Data
+	public static class Segment {
+
+		/**
+		 * 初始号段长度，默认：1000
+		 */
+		private long step = 1000;
+
+		/**
+		 * 号段长度下限，默认：100
+		 */
+		private long minStep = 100;
+
+		/**
+		 * 号段长度上限，默认：1000000
+		 */
+		private long maxStep = 1000000;
+
+		/**
+		 * 期望一个号段的消耗时长（秒），默认：60。
+		 * 号段消耗快于该值时 step 翻倍，慢于两倍该值时 step 减半
+		 */
+		private long targetPeriod = 60;
+
+		/**
+		 * 是否启用双缓冲：当前号段剩余比例低于 prefetchWatermark 时在后台线程预取下一号段，默认：true
+		 */
+		private boolean prefetch = true;
+
+		/**
+		 * 触发预取的剩余比例，默认：0.2（剩余 20% 时预取）
+		 */
+		private double prefetchWatermark = 0.2;
+
+		/**
+		 * 预取线程数，默认：2
+		 */
+		private int prefetchThreads = 2;
+	}
+
+	@Data
+	public static class Snowflake {
+
+		/**
+		 * 起始时间戳（毫秒），默认：2024-01-01 00:00:00 UTC
+		 */
+		private long epoch = 1704067200000L;
+
+		/**
+		 * 机器ID位数，默认：10（最多 1024 个节点）
+		 */
+		private int workerBits = 10;
+
+		/**
+		 * 毫秒内序列号位数，默认：12（每毫秒 4096 个ID）
+		 */
+		private int sequenceBits = 12;
+
+		/**
+		 * 当前节点的机器ID，取值范围 [0, 2^workerBits)，默认：0。
+		 * 多节点必须互不相同；未开启 leaseEnabled 时只有显式配置该项才会注册 snowflakeIdGenerator，开启 failover 时必须显式配置
+		 */
+		private long workerId = 0;
+
+		/**
+		 * 时钟回拨处理策略，默认：WAIT
+		 */
+		private ClockBackwardsPolicy clockBackwardsPolicy = ClockBackwardsPolicy.WAIT;
+
+		/**
+		 * 可容忍的最大时钟回拨（毫秒），超过时无论何种策略都抛出异常，默认：1000
+		 */
+		private long maxBackwardsMillis = 1000;
+
+		/**
+		 * 是否启动时通过 Redis 自动租用机器ID（忽略 workerId 配置），默认：false
+		 */
+		private boolean leaseEnabled = false;
+
+		/**
+		 * 机器ID租约有效期（秒），默认：30
+		 */
+		private long leaseTtl = 30;
+
+		/**
+		 * 租约续期间隔（秒），需小于 leaseTtl，默认：10
+		 */
+		private long leaseRenewInterval = 10;
+	}
+
+	@Data
+	public static class Uuid {
+
+		/**
+		 * 是否使用 ThreadLocalRandom 生成随机位，默认：false。
+		 * 开启后不再争用全局 SecureRandom，吞吐随核数线性扩展，但随机数不具备密码学强度，
+		 * 仅适用于不要求 UUID 不可预测的场景
+		 */
+		private boolean fastRandom = false;
+	}
+
+	@Data
+	public static class Metrics {
+
+		/**
+		 * 存在 MeterRegistry 时是否记录取号耗时、号段与降级状态等指标，默认：true
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 单独使用 key tag 记录指标的业务键，其余业务键合并为 key=other，默认为空。
+		 * 只应列出数量固定的业务键，带日期等动态值的业务键会让指标数量无限增长
+		 */
+		private List<String> keys = new ArrayList<>();
+
+		/**
+		 * 不记录指标的 IdGenerator Bean 名称，默认为空
+		 */
+		private List<String> excludes = new ArrayList<>();
+	}
+
+	@Data
+	public static class Async {
+
+		/**
+		 * 同一业务键合并为一次 nextIds 的最大请求数，默认：1000
+		 */
+		private int maxBatchSize = 1000;
+
+		/**
+		 * 运行在 JDK 21+ 时是否使用虚拟线程执行取号任务，默认：true；否则使用按需创建的守护线程池
+		 */
+		private boolean virtualThreads = true;
+	}
+
+	@Data
+	public static class Failover {
+
+		/**
+		 * 是否开启降级，默认：false。
+		 * 开启后 Redis 异常时先消耗本地已领取的号段，号段耗尽后改用 snowflakeIdGenerator 发号。
+		 * 降级ID跨节点不重复依赖各节点机器ID唯一，且降级发生在 Redis 不可用期间，租约届时无法续期：
+		 * 需为每个节点显式配置 snowflake.workerId 且不开启 snowflake.leaseEnabled，否则启动失败
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * 连续失败多少次后熔断，默认：5
+		 */
+		private int failureThreshold = 5;
+
+		/**
+		 * 熔断持续时间（秒），到期后放行一次探测请求，默认：10
+		 */
+		private long openDuration = 10;
+	}
+
+	@Data
+	public static class TimeOrdered {
+
+		/**
+		 * nextIdString 的输出格式，默认：UUID_V7
+		 */
+		private TimeOrderedFormat format = TimeOrderedFormat.UUID_V7;
+	}
+
+	public enum TimeOrderedFormat {
+		/**
+		 * UUID version 7，32 位小写十六进制（无连字符）
+		 */
+		UUID_V7,
+
+		/**
+		 * ULID，26 位 Crockford Base32
+		 */
+		ULID
+	}
+
+	public enum ClockBackwardsPolicy {
+		/**
+		 * 等待时钟追上上次发号时间
+		 */
+		WAIT,
+
+		/**
+		 * 继续使用上次发号时间递增序列号（向未来借用时间），序列号用尽时进位到下一毫秒
+		 */
+		BORROW,
+
+		/**
+		 * 直接抛出异常
+		 */
+		FAIL
+	}
 }
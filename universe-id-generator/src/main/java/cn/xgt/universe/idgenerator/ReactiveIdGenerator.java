@@ -0,0 +1,85 @@
+package cn.xgt.universe.idgenerator;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * @author XGT
+ * @description 非阻塞的分布式ID生成器接口，方法与 IdGenerator 对应，返回 Mono，订阅时才生成ID
+ * @date 2026/10/18
+ */
+public interface ReactiveIdGenerator {
+
+	/**
+	 * 生成下一个ID
+	 *
+	 * @param key 业务键，用于区分不同业务的ID序列
+	 * @return 生成的ID
+	 */
+	Mono<Long> nextId(String key);
+
+	/**
+	 * 生成下一个ID（使用默认key）
+	 *
+	 * @return 生成的ID
+	 */
+	Mono<Long> nextId();
+
+	/**
+	 * 生成下一个ID字符串
+	 *
+	 * @param key 业务键
+	 * @return 生成的ID字符串
+	 */
+	Mono<String> nextIdString(String key);
+
+	/**
+	 * 生成下一个ID字符串（使用默认key）
+	 *
+	 * @return 生成的ID字符串
+	 */
+	Mono<String> nextIdString();
+
+	/**
+	 * 生成带前缀的ID字符串
+	 *
+	 * @param key 业务键
+	 * @param prefix 前缀
+	 * @return 格式化的ID字符串，如：ORDER_10001
+	 */
+	Mono<String> nextIdWithPrefix(String key, String prefix);
+
+	/**
+	 * 生成带前缀的ID字符串（使用默认key）
+	 *
+	 * @param prefix 前缀
+	 * @return 格式化的ID字符串
+	 */
+	Mono<String> nextIdWithPrefix(String prefix);
+
+	/**
+	 * 生成固定长度的ID字符串（前面补0）
+	 *
+	 * @param key 业务键
+	 * @param prefix 前缀
+	 * @param length ID数字部分长度
+	 * @return 格式化的ID字符串，如：ORDER_00001
+	 */
+	Mono<String> nextIdWithPrefixAndLength(String key, String prefix, int length);
+
+	/**
+	 * 批量生成ID，一次预留 count 个ID
+	 *
+	 * @param key 业务键
+	 * @param count 数量，必须大于0
+	 * @return 生成的ID数组
+	 */
+	Mono<long[]> nextIds(String key, int count);
+
+	/**
+	 * 批量生成ID（使用默认key）
+	 *
+	 * @param count 数量，必须大于0
+	 * @return 生成的ID数组
+	 */
+	Mono<long[]> nextIds(int count);
+}
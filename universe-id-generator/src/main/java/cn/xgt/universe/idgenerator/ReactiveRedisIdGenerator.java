@@ -0,0 +1,123 @@
+package cn.xgt.universe.idgenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import cn.xgt.universe.common.util.ReactiveRedisRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author XGT
+ * @description 基于 ReactiveRedisRepository 的非阻塞ID生成器，与 RedisIdGenerator 使用相同的 Redis key 与过期策略，
+ *              每个ID一次 INCR（批量一次 INCRBY count），等待 Redis 响应期间不占用线程。
+ *              与 SegmentIdGenerator 共用同一个计数器时ID仍不重复
+ * @date 2026/10/18
+ */
+public class ReactiveRedisIdGenerator implements ReactiveIdGenerator {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveRedisIdGenerator.class);
+
+	private final ReactiveRedisRepository redisRepository;
+
+	private final IdGeneratorProperties properties;
+
+	public ReactiveRedisIdGenerator(ReactiveRedisRepository redisRepository, IdGeneratorProperties properties) {
+		if (redisRepository == null) {
+			throw new IllegalArgumentException("ReactiveRedisRepository cannot be null");
+		}
+		if (properties == null) {
+			throw new IllegalArgumentException("IdGeneratorProperties cannot be null");
+		}
+		this.redisRepository = redisRepository;
+		this.properties = properties;
+	}
+
+	@Override
+	public Mono<Long> nextId(String key) {
+		String resolvedKey = resolveKey(key);
+		String redisKey = toRedisKey(resolvedKey);
+		return incrementBy(redisKey, 1).doOnNext(id -> {
+			if (logger.isDebugEnabled()) {
+				logger.debug("生成ID: key={}, redisKey={}, id={}", resolvedKey, redisKey, id);
+			}
+		});
+	}
+
+	@Override
+	public Mono<Long> nextId() {
+		return nextId(null);
+	}
+
+	@Override
+	public Mono<String> nextIdString(String key) {
+		return nextId(key).map(id -> Long.toString(id));
+	}
+
+	@Override
+	public Mono<String> nextIdString() {
+		return nextIdString(null);
+	}
+
+	@Override
+	public Mono<String> nextIdWithPrefix(String key, String prefix) {
+		return nextId(key).map(id -> IdFormatter.format(prefix, id));
+	}
+
+	@Override
+	public Mono<String> nextIdWithPrefix(String prefix) {
+		return nextIdWithPrefix(null, prefix);
+	}
+
+	@Override
+	public Mono<String> nextIdWithPrefixAndLength(String key, String prefix, int length) {
+		return nextId(key).map(id -> IdFormatter.format(prefix, id, length));
+	}
+
+	/**
+	 * 一次 INCRBY count 预留连续的 count 个ID
+	 */
+	@Override
+	public Mono<long[]> nextIds(String key, int count) {
+		if (count <= 0) {
+			return Mono.error(new IllegalArgumentException("count must be positive: " + count));
+		}
+		return incrementBy(toRedisKey(resolveKey(key)), count).map(max -> RedisIdGenerator.range(max - count + 1, count));
+	}
+
+	@Override
+	public Mono<long[]> nextIds(int count) {
+		return nextIds(null, count);
+	}
+
+	/**
+	 * 业务键为空时使用默认业务键
+	 */
+	protected String resolveKey(String key) {
+		if (key == null || key.trim().isEmpty()) {
+			return properties.getDefaultKey();
+		}
+		return key;
+	}
+
+	/**
+	 * 业务键对应的 Redis key：[keyPrefix:key]
+	 */
+	protected String toRedisKey(String key) {
+		return properties.getKeyPrefix() + ":" + key;
+	}
+
+	/**
+	 * 对 Redis 计数器执行 INCRBY，配置了过期时间时与 RedisIdGenerator 一样通过 Lua 脚本原子设置
+	 */
+	protected Mono<Long> incrementBy(String redisKey, long delta) {
+		Mono<Long> result;
+		if (properties.getExpireTime() > 0) {
+			result = redisRepository.incrementAndExpire(redisKey, delta, properties.getExpireTime(), TimeUnit.SECONDS);
+		} else {
+			result = redisRepository.increment(redisKey, delta);
+		}
+		return result.switchIfEmpty(Mono.error(() -> new IllegalStateException("Redis INCRBY returned no value: " + redisKey)));
+	}
+}
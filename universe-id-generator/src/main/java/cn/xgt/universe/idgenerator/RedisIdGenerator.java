@@ -8,19 +8,22 @@ package cn.xgt.universe.idgenerator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
 import cn.xgt.universe.common.util.RedisRepository;
 
 
 //@Component
-public class RedisIdGenerator implements IdGenerator {
+public class RedisIdGenerator extends AbstractIdGenerator {
 
 	private static final Logger logger = LoggerFactory.getLogger(RedisIdGenerator.class);
 
 	//@Autowired
-	private RedisRepository redisRepository;
+	protected final RedisRepository redisRepository;
 
 	//@Autowired
-	private IdGeneratorProperties properties;
+	protected final IdGeneratorProperties properties;
 
 	// 添加构造函数用于依赖注入
 	public RedisIdGenerator(RedisRepository redisRepository, IdGeneratorProperties properties) {
@@ -41,20 +44,14 @@ public class RedisIdGenerator implements IdGenerator {
 	 * @return ID
 	 */
 	@Override
-	public Long nextId(String key) {
-		if (key == null || key.trim().isEmpty()) {
-			key = properties.getDefaultKey();
-		}
+	public long nextLong(String key) {
+		key = resolveKey(key);
+		String redisKey = toRedisKey(key);
+		long id = incrementBy(redisKey, 1);
 
-		String redisKey = properties.getKeyPrefix() + ":" + key;
-		Long id = redisRepository.increment(redisKey, 1);
-
-		// 设置过期时间（可选）
-		if (properties.getExpireTime() > 0) {
-			redisRepository.expire(redisKey, properties.getExpireTime());
+		if (logger.isDebugEnabled()) {
+			logger.debug("生成ID: key={}, redisKey={}, id={}", key, redisKey, id);
 		}
-
-		logger.debug("生成ID: key={}, redisKey={}, id={}", key, redisKey, id);
 		return id;
 	}
 
@@ -64,53 +61,68 @@ public class RedisIdGenerator implements IdGenerator {
 	 * @return ID
 	 */
 	@Override
-	public Long nextId() {
-		return nextId(properties.getDefaultKey());
+	public long nextLong() {
+		return nextLong(properties.getDefaultKey());
 	}
 
+	/**
+	 * 批量生成分布式ID(基于Redis)
+	 * 一次 INCRBY count 预留连续的 count 个ID
+	 * @param key redis key
+	 * @param count 数量
+	 * @return ID数组
+	 */
 	@Override
-	public String nextIdString(String key) {
-		return nextId(key).toString();
+	public long[] nextIds(String key, int count) {
+		checkCount(count);
+		key = resolveKey(key);
+		long max = incrementBy(toRedisKey(key), count);
+		return range(max - count + 1, count);
 	}
 
-	@Override
-	public String nextIdString() {
-		return nextIdString(null);
+	/**
+	 * [start, start + count) 的连续ID
+	 */
+	protected static long[] range(long start, int count) {
+		long[] ids = new long[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = start + i;
+		}
+		return ids;
 	}
 
 	/**
-	 * 生成分布式ID(基于Redis)
-	 * @param key redis key
-	 * @param prefix 结果前缀拼接
-	 * @return ID
+	 * 业务键为空时使用默认业务键
+	 * @param key 业务键
+	 * @return 实际使用的业务键
 	 */
-	@Override
-	public String nextIdWithPrefix(String key, String prefix) {
-		Long id = nextId(key);
-		return prefix + id;
+	protected String resolveKey(String key) {
+		if (key == null || key.trim().isEmpty()) {
+			return properties.getDefaultKey();
+		}
+		return key;
 	}
 
 	/**
-	 * 生成分布式ID(基于Redis)
-	 * @param prefix 结果前缀拼接
-	 * @return ID
+	 * 业务键对应的 Redis key：[keyPrefix:key]
+	 * @param key 业务键
+	 * @return redis key
 	 */
-	@Override
-	public String nextIdWithPrefix(String prefix) {
-		return nextIdWithPrefix(properties.getDefaultKey(), prefix);
+	protected String toRedisKey(String key) {
+		return properties.getKeyPrefix() + ":" + key;
 	}
 
 	/**
-	 * 生成分布式ID(基于Redis)
-	 * @param key redis key
-	 * @param prefix 结果前缀拼接
-	 * @param length 序列号长度
-	 * @return ID
+	 * 对 Redis 计数器执行 INCRBY，并按配置设置过期时间
+	 * 配置了过期时间时 INCRBY 与 EXPIRE 在同一个 Lua 脚本中原子执行，且只在 key 首次创建时设置过期时间
+	 * @param redisKey redis key
+	 * @param delta 增量
+	 * @return 增加后的值
 	 */
-	@Override
-	public String nextIdWithPrefixAndLength(String key, String prefix, int length) {
-		Long id = nextId(key);
-		String formattedId = String.format("%0" + length + "d", id);
-		return prefix + formattedId;
+	protected long incrementBy(String redisKey, long delta) {
+		if (properties.getExpireTime() > 0) {
+			return redisRepository.incrementAndExpire(redisKey, delta, properties.getExpireTime(), TimeUnit.SECONDS);
+		}
+		return redisRepository.increment(redisKey, delta);
 	}
 }
@@ -0,0 +1,177 @@
+package cn.xgt.universe.idgenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import cn.xgt.universe.common.util.RedisRepository;
+
+/**
+ * @author XGT
+ * @description 基于 Redis 的雪花算法机器ID租约
+ *              启动时通过 SET NX EX 抢占一个空闲的机器ID，后台线程定时续期，关闭时释放。
+ *              租约只在启动、续期和关闭时访问 Redis，不在取号路径上。
+ *              续期失败(被他人占用)或超过有效期未续期成功时租约失效，持有该租约的生成器随即拒绝发号。
+ *              Redis 恢复后若 key 已过期且未被他人占用则重新占用，恢复发号
+ * @date 2026/10/18
+ */
+public class RedisWorkerIdLease implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(RedisWorkerIdLease.class);
+
+	private final RedisRepository redisRepository;
+
+	private final String keyPrefix;
+
+	private final long maxWorkerId;
+
+	private final long ttlMillis;
+
+	private final long renewIntervalMillis;
+
+	/**
+	 * 本实例的唯一标识，作为租约 key 的值
+	 */
+	private final String token;
+
+	private long workerId = -1;
+
+	/**
+	 * 租约有效期截止时间（毫秒时间戳），0 表示未持有
+	 */
+	private volatile long validUntil;
+
+	private volatile ScheduledExecutorService heartbeat;
+
+	public RedisWorkerIdLease(RedisRepository redisRepository, IdGeneratorProperties properties) {
+		if (redisRepository == null) {
+			throw new IllegalArgumentException("RedisRepository cannot be null");
+		}
+		if (properties == null) {
+			throw new IllegalArgumentException("IdGeneratorProperties cannot be null");
+		}
+		IdGeneratorProperties.Snowflake config = properties.getSnowflake();
+		if (config.getLeaseTtl() <= 0 || config.getLeaseRenewInterval() <= 0 || config.getLeaseRenewInterval() >= config.getLeaseTtl()) {
+			throw new IllegalArgumentException("Snowflake lease requires 0 < leaseRenewInterval < leaseTtl: "
+					+ config.getLeaseRenewInterval() + ", " + config.getLeaseTtl());
+		}
+
+		this.redisRepository = redisRepository;
+		this.keyPrefix = properties.getKeyPrefix() + ":snowflake:worker:";
+		this.maxWorkerId = 1L << config.getWorkerBits();
+		this.ttlMillis = TimeUnit.SECONDS.toMillis(config.getLeaseTtl());
+		this.renewIntervalMillis = TimeUnit.SECONDS.toMillis(config.getLeaseRenewInterval());
+		this.token = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+	}
+
+	/**
+	 * 从随机位置开始依次尝试抢占机器ID，成功后启动续期线程
+	 * Redis 异常时立即失败，不再继续尝试其余机器ID
+	 *
+	 * @throws IllegalStateException 所有机器ID均已被占用或 Redis 不可用
+	 */
+	public synchronized void acquire() {
+		if (workerId >= 0) {
+			return;
+		}
+		long start = ThreadLocalRandom.current().nextLong(maxWorkerId);
+		for (long i = 0; i < maxWorkerId; i++) {
+			long candidate = (start + i) % maxWorkerId;
+			long now = System.currentTimeMillis();
+			boolean acquired;
+			try {
+				acquired = redisRepository.setIfAbsentOrThrow(keyPrefix + candidate, token, ttlMillis, TimeUnit.MILLISECONDS);
+			} catch (RuntimeException e) {
+				throw new IllegalStateException("Failed to lease snowflake worker id, Redis is unavailable: workerId=" + candidate, e);
+			}
+			if (acquired) {
+				this.workerId = candidate;
+				this.validUntil = now + ttlMillis;
+				startHeartbeat();
+				logger.info("租用雪花算法机器ID成功: workerId={}, token={}", candidate, token);
+				return;
+			}
+		}
+		throw new IllegalStateException("No snowflake worker id available, all " + maxWorkerId + " ids are leased");
+	}
+
+	/**
+	 * 当前租用的机器ID
+	 */
+	public long getWorkerId() {
+		if (workerId < 0) {
+			throw new IllegalStateException("Snowflake worker id is not leased yet");
+		}
+		return workerId;
+	}
+
+	/**
+	 * 租约在指定时刻是否仍然有效
+	 *
+	 * @param nowMillis 当前毫秒时间戳
+	 */
+	public boolean isHeld(long nowMillis) {
+		return nowMillis < validUntil;
+	}
+
+	/**
+	 * 停止续期并释放机器ID
+	 */
+	@Override
+	public synchronized void close() {
+		if (heartbeat != null) {
+			heartbeat.shutdownNow();
+			heartbeat = null;
+		}
+		if (workerId >= 0 && validUntil > 0) {
+			validUntil = 0;
+			try {
+				redisRepository.deleteIfValueEquals(keyPrefix + workerId, token);
+				logger.info("释放雪花算法机器ID: workerId={}", workerId);
+			} catch (Exception e) {
+				logger.warn("释放雪花算法机器ID失败, 等待租约自然过期: workerId={}", workerId, e);
+			}
+		}
+	}
+
+	private void startHeartbeat() {
+		heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "universe-snowflake-lease");
+			thread.setDaemon(true);
+			return thread;
+		});
+		heartbeat.scheduleWithFixedDelay(this::renew, renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void renew() {
+		long now = System.currentTimeMillis();
+		try {
+			if (redisRepository.expireIfValueEquals(keyPrefix + workerId, token, ttlMillis, TimeUnit.MILLISECONDS)) {
+				validUntil = now + ttlMillis;
+				return;
+			}
+			// key 已过期(如 Redis 长时间不可达)且未被他人占用时重新占用，Redis 异常进入 catch 下次重试
+			if (redisRepository.setIfAbsentOrThrow(keyPrefix + workerId, token, ttlMillis, TimeUnit.MILLISECONDS)) {
+				validUntil = now + ttlMillis;
+				logger.warn("雪花算法机器ID租约已过期, 重新占用成功: workerId={}", workerId);
+				return;
+			}
+			// 已被他人占用，立即失效，之后不再发号
+			validUntil = 0;
+			ScheduledExecutorService executor = heartbeat;
+			if (executor != null) {
+				executor.shutdown();
+			}
+			logger.error("雪花算法机器ID租约已丢失, 停止发号: workerId={}", workerId);
+		} catch (Exception e) {
+			// Redis 暂时不可用，租约在 validUntil 前依然有效，下次继续尝试
+			logger.warn("雪花算法机器ID续期失败: workerId={}, validUntil={}", workerId, validUntil, e);
+		}
+	}
+}
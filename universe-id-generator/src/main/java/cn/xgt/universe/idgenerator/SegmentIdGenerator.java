@@ -0,0 +1,402 @@
+package cn.xgt.universe.idgenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import cn.xgt.universe.common.util.RedisRepository;
+
+/**
+ * @author XGT
+ * @description 号段模式(leaf-segment)的分布式ID生成器
+ *              每次通过一次 INCRBY step 从 Redis 领取一段ID，在本地用 AtomicLong 分发，
+ *              step 按各业务键的实际消耗速度在 [minStep, maxStep] 之间自适应调整。
+ *              各节点共享同一个 Redis 计数器，领取到的号段互不重叠，ID全局唯一，但跨节点不保证递增。
+ *              开启 prefetch 时每个业务键持有两个号段(双缓冲)：当前号段剩余比例低于水位线时，
+ *              后台线程预取下一号段，当前号段耗尽后通过 CAS 无锁切换，取号线程不等待 Redis。
+ * @date 2026/10/18
+ */
+public class SegmentIdGenerator extends RedisIdGenerator implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(SegmentIdGenerator.class);
+
+	private final ConcurrentMap<String, SegmentBuffer> buffers = new ConcurrentHashMap<>();
+
+	private final long targetPeriodNanos;
+
+	/**
+	 * 预取线程池，未开启 prefetch 时为 null
+	 */
+	private final ThreadPoolExecutor prefetchExecutor;
+
+	/**
+	 * 预取失败回调(redisKey, 异常)，未设置时为 null
+	 */
+	private volatile BiConsumer<String, RuntimeException> prefetchFailureListener;
+
+	public SegmentIdGenerator(RedisRepository redisRepository, IdGeneratorProperties properties) {
+		super(redisRepository, properties);
+
+		IdGeneratorProperties.Segment segment = properties.getSegment();
+		if (segment.getMinStep() <= 0 || segment.getMinStep() > segment.getMaxStep()) {
+			throw new IllegalArgumentException("Segment step range is invalid: [" + segment.getMinStep() + ", " + segment.getMaxStep() + "]");
+		}
+		if (segment.getStep() < segment.getMinStep() || segment.getStep() > segment.getMaxStep()) {
+			throw new IllegalArgumentException("Segment step must be within [minStep, maxStep]: " + segment.getStep());
+		}
+		if (segment.getTargetPeriod() <= 0) {
+			throw new IllegalArgumentException("Segment targetPeriod must be positive: " + segment.getTargetPeriod());
+		}
+		this.targetPeriodNanos = TimeUnit.SECONDS.toNanos(segment.getTargetPeriod());
+
+		if (segment.isPrefetch()) {
+			if (segment.getPrefetchWatermark() <= 0 || segment.getPrefetchWatermark() >= 1) {
+				throw new IllegalArgumentException("Segment prefetchWatermark must be within (0, 1): " + segment.getPrefetchWatermark());
+			}
+			if (segment.getPrefetchThreads() <= 0) {
+				throw new IllegalArgumentException("Segment prefetchThreads must be positive: " + segment.getPrefetchThreads());
+			}
+			this.prefetchExecutor = newPrefetchExecutor(segment.getPrefetchThreads());
+		} else {
+			this.prefetchExecutor = null;
+		}
+	}
+
+	/**
+	 * 生成分布式ID(号段模式)
+	 * 当前号段未耗尽时只做一次本地 CAS；耗尽后优先无锁切换到已预取的号段，
+	 * 没有可用的预取号段时才由一个线程加锁向 Redis 领取
+	 * @param key 业务键
+	 * @return ID
+	 */
+	@Override
+	public long nextLong(String key) {
+		SegmentBuffer buffer = getBuffer(resolveKey(key));
+		for (;;) {
+			Segment segment = buffer.current.get();
+			long id = segment.value.getAndIncrement();
+			if (id <= segment.max) {
+				if (id >= segment.prefetchAt) {
+					prefetch(buffer, segment);
+				}
+				return id;
+			}
+			if (!switchToNext(buffer, segment)) {
+				refill(buffer, segment);
+			}
+		}
+	}
+
+	/**
+	 * 只从本地号段取号，不访问 Redis：当前号段耗尽时切换到已预取的号段，仍无可用ID时返回 -1。
+	 * 供 Redis 不可用时降级使用，不触发预取
+	 * @param key 业务键
+	 * @return ID，本地号段耗尽时返回 -1
+	 */
+	public long tryNextLocal(String key) {
+		SegmentBuffer buffer = getBuffer(resolveKey(key));
+		for (;;) {
+			Segment segment = buffer.current.get();
+			long id = segment.value.getAndIncrement();
+			if (id <= segment.max) {
+				return id;
+			}
+			if (!switchToNext(buffer, segment)) {
+				return -1;
+			}
+		}
+	}
+
+	/**
+	 * 强制向 Redis 领取一个新号段替换当前号段，当前号段的剩余ID被丢弃。
+	 * 供熔断探测使用，保证探测请求真正访问 Redis 而不是由本地号段满足；Redis 异常直接抛出
+	 * @param key 业务键
+	 */
+	public void reload(String key) {
+		SegmentBuffer buffer = getBuffer(resolveKey(key));
+		buffer.lock.lock();
+		try {
+			buffer.current.set(loadSegment(buffer, buffer.current.get()));
+		} finally {
+			buffer.lock.unlock();
+		}
+	}
+
+	/**
+	 * 设置后台预取失败时的回调，FailoverIdGenerator 借此把预取失败计入熔断
+	 * @param listener (redisKey, 异常)
+	 */
+	public void setPrefetchFailureListener(BiConsumer<String, RuntimeException> listener) {
+		this.prefetchFailureListener = listener;
+	}
+
+	/**
+	 * 批量生成分布式ID(号段模式)
+	 * count 不小于当前 step 时直接 INCRBY count 领取，否则从本地号段中一次性截取，号段不足时切换后继续截取
+	 * @param key 业务键
+	 * @param count 数量
+	 * @return ID数组
+	 */
+	@Override
+	public long[] nextIds(String key, int count) {
+		checkCount(count);
+		SegmentBuffer buffer = getBuffer(resolveKey(key));
+		if (count >= buffer.step) {
+			long max = incrementBy(buffer.redisKey, count);
+			return range(max - count + 1, count);
+		}
+
+		long[] ids = new long[count];
+		int filled = 0;
+		while (filled < count) {
+			Segment segment = buffer.current.get();
+			int want = count - filled;
+			long start = segment.value.getAndAdd(want);
+			if (start <= segment.max) {
+				long end = Math.min(start + want - 1, segment.max);
+				for (long id = start; id <= end; id++) {
+					ids[filled++] = id;
+				}
+				if (end >= segment.prefetchAt) {
+					prefetch(buffer, segment);
+				}
+				continue;
+			}
+			if (!switchToNext(buffer, segment)) {
+				refill(buffer, segment);
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * 业务键当前可分发的ID数：当前号段剩余 + 已预取号段，未取过号时返回 0
+	 * @param key 业务键
+	 * @return 剩余ID数
+	 */
+	public long getRemaining(String key) {
+		SegmentBuffer buffer = buffers.get(resolveKey(key));
+		if (buffer == null) {
+			return 0;
+		}
+		Segment current = buffer.current.get();
+		long remaining = Math.max(0, current.max - current.value.get() + 1);
+		Segment next = buffer.next.get();
+		if (next != null) {
+			remaining += next.step;
+		}
+		return remaining;
+	}
+
+	/**
+	 * @param key 业务键
+	 * @return 业务键当前的号段长度，未取过号时返回初始 step
+	 */
+	public long getStep(String key) {
+		SegmentBuffer buffer = buffers.get(resolveKey(key));
+		return buffer == null ? properties.getSegment().getStep() : buffer.step;
+	}
+
+	/**
+	 * @param key 业务键
+	 * @return 最近一次向 Redis 领取号段的耗时（纳秒），未领取过时返回 0
+	 */
+	public long getLastLoadNanos(String key) {
+		SegmentBuffer buffer = buffers.get(resolveKey(key));
+		return buffer == null ? 0 : buffer.lastLoadNanos;
+	}
+
+	/**
+	 * 关闭预取线程池
+	 */
+	@Override
+	public void close() {
+		if (prefetchExecutor != null) {
+			prefetchExecutor.shutdownNow();
+		}
+	}
+
+	private SegmentBuffer getBuffer(String key) {
+		SegmentBuffer buffer = buffers.get(key);
+		if (buffer == null) {
+			buffer = buffers.computeIfAbsent(key, k -> new SegmentBuffer(toRedisKey(k), properties.getSegment().getStep()));
+		}
+		return buffer;
+	}
+
+	/**
+	 * 当前号段到达水位线，提交后台预取。每个号段只触发一次，预取失败时通知 prefetchFailureListener，由取号线程同步领取兜底
+	 */
+	private void prefetch(SegmentBuffer buffer, Segment segment) {
+		if (buffer.next.get() != null || !segment.prefetchTriggered.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			prefetchExecutor.execute(() -> {
+				try {
+					buffer.next.compareAndSet(null, loadSegment(buffer, segment));
+				} catch (RuntimeException e) {
+					logger.warn("预取号段失败: redisKey={}", buffer.redisKey, e);
+					BiConsumer<String, RuntimeException> listener = prefetchFailureListener;
+					if (listener != null) {
+						listener.accept(buffer.redisKey, e);
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			logger.warn("预取号段任务被拒绝: redisKey={}", buffer.redisKey);
+		}
+	}
+
+	/**
+	 * 当前号段耗尽，CAS 切换到已预取的号段
+	 * @return 是否存在可切换的预取号段
+	 */
+	private boolean switchToNext(SegmentBuffer buffer, Segment exhausted) {
+		Segment next = buffer.next.get();
+		if (next == null) {
+			return false;
+		}
+		// CAS 失败说明其他线程已完成切换，直接重试取号即可
+		if (buffer.current.compareAndSet(exhausted, next)) {
+			buffer.next.compareAndSet(next, null);
+		}
+		return true;
+	}
+
+	/**
+	 * 当前号段耗尽且没有预取号段，同步领取下一号段。加锁后再次确认，避免多个线程重复领取
+	 */
+	private void refill(SegmentBuffer buffer, Segment exhausted) {
+		buffer.lock.lock();
+		try {
+			if (buffer.current.get() == exhausted && !switchToNext(buffer, exhausted)) {
+				buffer.current.set(loadSegment(buffer, exhausted));
+			}
+		} finally {
+			buffer.lock.unlock();
+		}
+	}
+
+	/**
+	 * 从 Redis 领取一个号段：INCRBY step 的返回值即号段最大值，号段为 (max - step, max]
+	 */
+	private Segment loadSegment(SegmentBuffer buffer, Segment previous) {
+		long step = nextStep(buffer, previous);
+		long begin = System.nanoTime();
+		long max = incrementBy(buffer.redisKey, step);
+		buffer.lastLoadNanos = System.nanoTime() - begin;
+		logger.debug("领取号段: redisKey={}, step={}, range=[{}, {}]", buffer.redisKey, step, max - step + 1, max);
+		return new Segment(max, step, prefetchThreshold(step));
+	}
+
+	/**
+	 * 号段内触发预取的偏移量，未开启 prefetch 时返回 step 使其永不触发
+	 */
+	private long prefetchThreshold(long step) {
+		if (prefetchExecutor == null) {
+			return step;
+		}
+		return step - (long) Math.ceil(step * properties.getSegment().getPrefetchWatermark());
+	}
+
+	/**
+	 * 按上一号段的消耗时长调整 step：
+	 * 快于 targetPeriod 则翻倍，慢于 2 * targetPeriod 则减半
+	 */
+	private long nextStep(SegmentBuffer buffer, Segment previous) {
+		if (previous == Segment.EMPTY) {
+			return buffer.step;
+		}
+		IdGeneratorProperties.Segment config = properties.getSegment();
+		long elapsed = System.nanoTime() - previous.loadedAt;
+		long step = previous.step;
+		if (elapsed < targetPeriodNanos) {
+			step = Math.min(step * 2, config.getMaxStep());
+		} else if (elapsed >= targetPeriodNanos * 2) {
+			step = Math.max(step / 2, config.getMinStep());
+		}
+		buffer.step = step;
+		return step;
+	}
+
+	private static ThreadPoolExecutor newPrefetchExecutor(int threads) {
+		AtomicInteger counter = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread = new Thread(r, "universe-segment-prefetch-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * 单个业务键的号段缓冲：current 为正在分发的号段，next 为预取好的备用号段
+	 */
+	static final class SegmentBuffer {
+
+		final String redisKey;
+
+		final AtomicReference<Segment> current = new AtomicReference<>(Segment.EMPTY);
+
+		final AtomicReference<Segment> next = new AtomicReference<>();
+
+		final ReentrantLock lock = new ReentrantLock();
+
+		volatile long step;
+
+		/**
+		 * 最近一次领取号段的耗时（纳秒）
+		 */
+		volatile long lastLoadNanos;
+
+		SegmentBuffer(String redisKey, long step) {
+			this.redisKey = redisKey;
+			this.step = step;
+		}
+	}
+
+	/**
+	 * 号段：(max - step, max]，value 为下一个待分发的ID，分发到 prefetchAt 时触发预取
+	 */
+	static final class Segment {
+
+		/**
+		 * 初始占位号段，首次取号时即视为耗尽
+		 */
+		static final Segment EMPTY = new Segment(0, 0, 0);
+
+		final long max;
+
+		final long step;
+
+		final long prefetchAt;
+
+		final long loadedAt;
+
+		final AtomicLong value;
+
+		final AtomicBoolean prefetchTriggered = new AtomicBoolean();
+
+		Segment(long max, long step, long prefetchOffset) {
+			this.max = max;
+			this.step = step;
+			this.prefetchAt = max - step + 1 + prefetchOffset;
+			this.loadedAt = System.nanoTime();
+			this.value = new AtomicLong(max - step + 1);
+		}
+	}
+}
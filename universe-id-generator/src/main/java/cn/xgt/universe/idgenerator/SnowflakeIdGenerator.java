@@ -0,0 +1,203 @@
+package cn.xgt.universe.idgenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author XGT
+ * @description 基于雪花算法的ID生成器实现，纯本地计算，不依赖网络
+ *              ID结构(64位)：[1位符号位 0][时间戳][机器ID][毫秒内序列号]，位数由 IdGeneratorProperties.Snowflake 配置。
+ *              上次发号的 (时间戳, 序列号) 保存在一个 AtomicLong 中，取号只做 CAS，无锁。
+ *              ID全局唯一与业务键无关，所有带 key 的方法忽略 key 参数。
+ *              机器ID可手工配置，也可通过 RedisWorkerIdLease 自动租用，租约失效后拒绝发号以避免重复。
+ * @date 2026/10/18
+ */
+public class SnowflakeIdGenerator extends AbstractIdGenerator {
+
+	private static final Logger logger = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+	private final long epoch;
+
+	private final long workerId;
+
+	private final int sequenceBits;
+
+	private final long sequenceMask;
+
+	private final int timestampShift;
+
+	private final long maxTimestamp;
+
+	private final long workerPart;
+
+	private final IdGeneratorProperties.ClockBackwardsPolicy clockBackwardsPolicy;
+
+	private final long maxBackwardsMillis;
+
+	/**
+	 * 机器ID租约，手工指定 workerId 时为 null
+	 */
+	private final RedisWorkerIdLease lease;
+
+	/**
+	 * 上次发号状态：(时间戳 << sequenceBits) | 序列号
+	 */
+	private final AtomicLong state = new AtomicLong();
+
+	public SnowflakeIdGenerator(IdGeneratorProperties.Snowflake config) {
+		this(config, config.getWorkerId());
+	}
+
+	public SnowflakeIdGenerator(IdGeneratorProperties.Snowflake config, long workerId) {
+		this(config, workerId, null);
+	}
+
+	/**
+	 * 使用 Redis 租用的机器ID，租约失效后拒绝发号
+	 */
+	public SnowflakeIdGenerator(IdGeneratorProperties.Snowflake config, RedisWorkerIdLease lease) {
+		this(config, lease.getWorkerId(), lease);
+	}
+
+	private SnowflakeIdGenerator(IdGeneratorProperties.Snowflake config, long workerId, RedisWorkerIdLease lease) {
+		if (config == null) {
+			throw new IllegalArgumentException("Snowflake config cannot be null");
+		}
+		int workerBits = config.getWorkerBits();
+		int sequenceBits = config.getSequenceBits();
+		if (workerBits < 0 || sequenceBits <= 0 || 63 - workerBits - sequenceBits < 31) {
+			throw new IllegalArgumentException("Snowflake bits are invalid: workerBits=" + workerBits + ", sequenceBits=" + sequenceBits);
+		}
+		if (workerId < 0 || workerId >= (1L << workerBits)) {
+			throw new IllegalArgumentException("Snowflake workerId must be within [0, " + (1L << workerBits) + "): " + workerId);
+		}
+		if (config.getEpoch() < 0 || config.getEpoch() > System.currentTimeMillis()) {
+			throw new IllegalArgumentException("Snowflake epoch must not be in the future: " + config.getEpoch());
+		}
+		if (config.getClockBackwardsPolicy() == null) {
+			throw new IllegalArgumentException("Snowflake clockBackwardsPolicy cannot be null");
+		}
+
+		this.epoch = config.getEpoch();
+		this.workerId = workerId;
+		this.sequenceBits = sequenceBits;
+		this.sequenceMask = (1L << sequenceBits) - 1;
+		this.timestampShift = workerBits + sequenceBits;
+		this.maxTimestamp = (1L << (63 - timestampShift)) - 1;
+		this.workerPart = workerId << sequenceBits;
+		this.clockBackwardsPolicy = config.getClockBackwardsPolicy();
+		this.maxBackwardsMillis = config.getMaxBackwardsMillis();
+		this.lease = lease;
+	}
+
+	/**
+	 * 生成雪花ID
+	 * @param key 忽略
+	 * @return ID
+	 */
+	@Override
+	public long nextLong(String key) {
+		return compose(nextState(1));
+	}
+
+	/**
+	 * 批量生成雪花ID，每次 CAS 预留当前毫秒内尽可能多的序列号
+	 * @param key 忽略
+	 * @param count 数量
+	 * @return ID数组
+	 */
+	@Override
+	public long[] nextIds(String key, int count) {
+		checkCount(count);
+		long[] ids = new long[count];
+		int filled = 0;
+		while (filled < count) {
+			long start = nextState(count - filled);
+			long granted = granted(start, count - filled);
+			for (long i = 0; i < granted; i++) {
+				ids[filled++] = compose(start + i);
+			}
+		}
+		return ids;
+	}
+
+	public long getWorkerId() {
+		return workerId;
+	}
+
+	/**
+	 * CAS 推进发号状态，预留同一毫秒内最多 want 个序列号：
+	 * 时钟前进时序列号归零；同一毫秒内序列号加一；
+	 * 时钟回拨或序列号用尽时按 clockBackwardsPolicy 等待、借用未来时间或失败
+	 * @return 预留的第一个状态，预留数量见 granted(start, want)
+	 */
+	private long nextState(int want) {
+		for (;;) {
+			long last = state.get();
+			long lastTimestamp = last >>> sequenceBits;
+			long millis = System.currentTimeMillis();
+			if (lease != null && !lease.isHeld(millis)) {
+				throw new IllegalStateException("Snowflake worker id lease is lost, refusing to generate id: workerId=" + workerId);
+			}
+			long now = millis - epoch;
+
+			long next;
+			if (now > lastTimestamp) {
+				next = now << sequenceBits;
+			} else {
+				long backwards = lastTimestamp - now;
+				if (backwards > maxBackwardsMillis) {
+					throw new IllegalStateException("Clock moved backwards by " + backwards + "ms, refusing to generate id");
+				}
+				boolean sequenceExhausted = (last & sequenceMask) == sequenceMask;
+				if (clockBackwardsPolicy != IdGeneratorProperties.ClockBackwardsPolicy.BORROW) {
+					if (backwards > 0) {
+						if (clockBackwardsPolicy == IdGeneratorProperties.ClockBackwardsPolicy.FAIL) {
+							throw new IllegalStateException("Clock moved backwards by " + backwards + "ms, refusing to generate id");
+						}
+						sleep(backwards);
+						continue;
+					}
+					if (sequenceExhausted) {
+						// 本毫秒序列号用尽，自旋到下一毫秒
+						Thread.yield();
+						continue;
+					}
+				}
+				// 序列号加一，用尽时自然进位到下一毫秒
+				next = last + 1;
+			}
+
+			if ((next >>> sequenceBits) > maxTimestamp) {
+				throw new IllegalStateException("Snowflake timestamp overflow, please check epoch: " + epoch);
+			}
+			if (state.compareAndSet(last, next + granted(next, want) - 1)) {
+				return next;
+			}
+		}
+	}
+
+	/**
+	 * 从 start 开始、不跨毫秒时最多可预留的序列号数量
+	 */
+	private long granted(long start, int want) {
+		return Math.min(want, sequenceMask - (start & sequenceMask) + 1);
+	}
+
+	private long compose(long state) {
+		return ((state >>> sequenceBits) << timestampShift) | workerPart | (state & sequenceMask);
+	}
+
+	private static void sleep(long millis) {
+		logger.warn("时钟回拨 {}ms，等待时钟追上", millis);
+		try {
+			TimeUnit.MILLISECONDS.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for clock to catch up", e);
+		}
+	}
+}
@@ -0,0 +1,221 @@
+package cn.xgt.universe.idgenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author XGT
+ * @description 时间有序的 UUIDv7 / ULID 生成器，用作数据库主键时按时间顺序追加写入，避免随机 UUID 造成的 B+ 树页分裂
+ *              高 48 位为 Unix 毫秒时间戳，其后 12 位为毫秒内计数器，同一进程内生成的ID严格递增：
+ *              计数器在每个新毫秒从随机值起步，用尽后进位到下一毫秒，时钟回拨时沿用上一次的时间戳继续递增。
+ *              时间戳与计数器保存在一个 AtomicLong 中，通过 CAS 推进，取号路径无锁；其余位使用 ThreadLocalRandom 填充
+ * @date 2026/10/18
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+	private static final Logger logger = LoggerFactory.getLogger(TimeOrderedIdGenerator.class);
+
+	private static final char[] CROCKFORD_DIGITS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+	private static final int COUNTER_BITS = 12;
+
+	private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+	/**
+	 * 新毫秒的计数器起始值上限，保留一半空间供同一毫秒内递增
+	 */
+	private static final int COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);
+
+	private static final int ULID_LENGTH = 26;
+
+	private final IdGeneratorProperties.TimeOrderedFormat format;
+
+	/**
+	 * (毫秒时间戳 << COUNTER_BITS) | 毫秒内计数器
+	 */
+	private final AtomicLong state = new AtomicLong();
+
+	public TimeOrderedIdGenerator() {
+		this(IdGeneratorProperties.TimeOrderedFormat.UUID_V7);
+	}
+
+	/**
+	 * @param format nextIdString 的输出格式
+	 */
+	public TimeOrderedIdGenerator(IdGeneratorProperties.TimeOrderedFormat format) {
+		if (format == null) {
+			throw new IllegalArgumentException("TimeOrdered format must not be null");
+		}
+		this.format = format;
+	}
+
+	@Override
+	public Long nextId(String key) {
+		throw new UnsupportedOperationException("TimeOrdered generator does not support Long type ID");
+	}
+
+	@Override
+	public Long nextId() {
+		throw new UnsupportedOperationException("TimeOrdered generator does not support Long type ID");
+	}
+
+	@Override
+	public long nextLong(String key) {
+		throw new UnsupportedOperationException("TimeOrdered generator does not support Long type ID");
+	}
+
+	@Override
+	public long nextLong() {
+		throw new UnsupportedOperationException("TimeOrdered generator does not support Long type ID");
+	}
+
+	@Override
+	public String nextIdString(String key) {
+		throw new UnsupportedOperationException("TimeOrdered generator does not support key param");
+	}
+
+	/**
+	 * 按配置的格式生成ID：UUID_V7 为 32 位小写十六进制，ULID 为 26 位 Crockford Base32
+	 */
+	@Override
+	public String nextIdString() {
+		String id = nextString("");
+		logger.debug("生成时间有序ID: id={}", id);
+		return id;
+	}
+
+	@Override
+	public String nextIdWithPrefix(String key, String prefix) {
+		throw new UnsupportedOperationException("TimeOrdered generator does not support key param");
+	}
+
+	@Override
+	public String nextIdWithPrefix(String prefix) {
+		return nextString(prefix + "_");
+	}
+
+	@Override
+	public String nextIdWithPrefixAndLength(String key, String prefix, int length) {
+		throw new UnsupportedOperationException("TimeOrdered generator does not support key param");
+	}
+
+	@Override
+	public long[] nextIds(String key, int count) {
+		throw new UnsupportedOperationException("TimeOrdered generator does not support Long type ID");
+	}
+
+	@Override
+	public long[] nextIds(int count) {
+		throw new UnsupportedOperationException("TimeOrdered generator does not support Long type ID");
+	}
+
+	/**
+	 * 生成 version 7 UUID（RFC 9562），同一进程内按 UUID 的无符号字节序严格递增
+	 *
+	 * @return UUID
+	 */
+	public UUID nextUuid() {
+		long state = nextState();
+		return new UUID(uuidV7Msb(state), uuidV7Lsb());
+	}
+
+	/**
+	 * 生成 ULID 字符串，同一进程内按字典序严格递增
+	 *
+	 * @return 26 位 Crockford Base32 字符串
+	 */
+	public String nextUlid() {
+		long state = nextState();
+		char[] buf = IdFormatter.buffer(ULID_LENGTH);
+		writeUlid(ulidMsb(state), ThreadLocalRandom.current().nextLong(), buf, 0);
+		return new String(buf, 0, ULID_LENGTH);
+	}
+
+	/**
+	 * 生成 ULID 的 128 位原始值，高 64 位为 msb，低 64 位为 lsb
+	 *
+	 * @return ULID 的原始值（不是 RFC 9562 UUID，仅借用 UUID 作为 128 位容器）
+	 */
+	public UUID nextUlidValue() {
+		long state = nextState();
+		return new UUID(ulidMsb(state), ThreadLocalRandom.current().nextLong());
+	}
+
+	/**
+	 * 前缀 + 按配置格式生成的ID，不创建 UUID 对象
+	 */
+	private String nextString(String prefix) {
+		long state = nextState();
+		if (format == IdGeneratorProperties.TimeOrderedFormat.ULID) {
+			int prefixLength = prefix.length();
+			char[] buf = IdFormatter.buffer(prefixLength + ULID_LENGTH);
+			prefix.getChars(0, prefixLength, buf, 0);
+			writeUlid(ulidMsb(state), ThreadLocalRandom.current().nextLong(), buf, prefixLength);
+			return new String(buf, 0, prefixLength + ULID_LENGTH);
+		}
+		return UuidIdGenerator.format(prefix, uuidV7Msb(state), uuidV7Lsb());
+	}
+
+	/**
+	 * CAS 推进 (毫秒时间戳, 计数器)：
+	 * 时钟前进时切换到新毫秒并以随机值作为计数器起点，否则在上一状态上加 1（计数器溢出时自然进位到下一毫秒）
+	 */
+	private long nextState() {
+		for (;;) {
+			long last = state.get();
+			long now = System.currentTimeMillis();
+			long next;
+			if (now > (last >>> COUNTER_BITS)) {
+				next = (now << COUNTER_BITS) | ThreadLocalRandom.current().nextInt(COUNTER_SEED_BOUND);
+			} else {
+				next = last + 1;
+			}
+			if (state.compareAndSet(last, next)) {
+				return next;
+			}
+		}
+	}
+
+	/**
+	 * unix_ts_ms(48) | ver(4) | rand_a(12)，rand_a 使用毫秒内计数器
+	 */
+	private static long uuidV7Msb(long state) {
+		return ((state >>> COUNTER_BITS) << 16) | 0x7000L | (state & COUNTER_MASK);
+	}
+
+	/**
+	 * var(2) | rand_b(62)
+	 */
+	private static long uuidV7Lsb() {
+		return (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+	}
+
+	/**
+	 * timestamp(48) | 计数器(12) | 随机(4)，其余 64 位随机数作为 lsb
+	 */
+	private static long ulidMsb(long state) {
+		return (state << 4) | ThreadLocalRandom.current().nextInt(16);
+	}
+
+	/**
+	 * 将 128 位按 Crockford Base32 写入 buf[offset, offset + 26)，首字符只承载最高 3 位
+	 */
+	static void writeUlid(long msb, long lsb, char[] buf, int offset) {
+		for (int i = ULID_LENGTH - 1; i >= 0; i--) {
+			int shift = (ULID_LENGTH - 1 - i) * 5;
+			long bits;
+			if (shift >= 64) {
+				bits = msb >>> (shift - 64);
+			} else if (shift == 0) {
+				bits = lsb;
+			} else {
+				bits = (lsb >>> shift) | (msb << (64 - shift));
+			}
+			buf[offset + i] = CROCKFORD_DIGITS[(int) (bits & 0x1F)];
+		}
+	}
+}
@@ -4,16 +4,34 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * @author XGT
  * @description 基于UUID的ID生成器实现
+ *              128 位直接按十六进制写入 32 位字符，不经过 UUID.toString().replace("-", "")。
+ *              fastRandom 模式使用 ThreadLocalRandom 生成 version 4 UUID，避免争用 UUID.randomUUID() 共享的 SecureRandom
  * @date 2025/11/5
  */
 public class UuidIdGenerator implements IdGenerator {
 
 	private static final Logger logger = LoggerFactory.getLogger(UuidIdGenerator.class);
 
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private final boolean fastRandom;
+
+	public UuidIdGenerator() {
+		this(false);
+	}
+
+	/**
+	 * @param fastRandom 是否使用 ThreadLocalRandom（非密码学强度）生成随机位
+	 */
+	public UuidIdGenerator(boolean fastRandom) {
+		this.fastRandom = fastRandom;
+	}
+
 	@Override
 	public Long nextId(String key) {
 		// UUID 无法转换为 Long，返回 null 或抛出异常
@@ -25,6 +43,16 @@ public class UuidIdGenerator implements IdGenerator {
 		throw new UnsupportedOperationException("UUID generator does not support Long type ID");
 	}
 
+	@Override
+	public long nextLong(String key) {
+		throw new UnsupportedOperationException("UUID generator does not support Long type ID");
+	}
+
+	@Override
+	public long nextLong() {
+		throw new UnsupportedOperationException("UUID generator does not support Long type ID");
+	}
+
 	@Override
 	public String nextIdString(String key) {
 		throw new UnsupportedOperationException("UUID generator does not support key param");
@@ -32,11 +60,50 @@ public class UuidIdGenerator implements IdGenerator {
 
 	@Override
 	public String nextIdString() {
-		String uuid = UUID.randomUUID().toString().replace("-", "");
+		String uuid = nextUuidString("");
 		logger.debug("生成UUID: uuid={}", uuid);
 		return uuid;
 	}
 
+	/**
+	 * 生成 version 4 UUID
+	 *
+	 * @return UUID
+	 */
+	public UUID nextUuid() {
+		if (!fastRandom) {
+			return UUID.randomUUID();
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return new UUID(versionBits(random.nextLong()), variantBits(random.nextLong()));
+	}
+
+	/**
+	 * 前缀 + 32 位 UUID，fastRandom 模式下不创建 UUID 对象
+	 */
+	private String nextUuidString(String prefix) {
+		if (!fastRandom) {
+			UUID uuid = UUID.randomUUID();
+			return format(prefix, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return format(prefix, versionBits(random.nextLong()), variantBits(random.nextLong()));
+	}
+
+	/**
+	 * version 4
+	 */
+	private static long versionBits(long msb) {
+		return (msb & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+	}
+
+	/**
+	 * IETF variant
+	 */
+	private static long variantBits(long lsb) {
+		return (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+	}
+
 	@Override
 	public String nextIdWithPrefix(String key, String prefix) {
 		throw new UnsupportedOperationException("UUID generator does not support key param");
@@ -44,12 +111,43 @@ public class UuidIdGenerator implements IdGenerator {
 
 	@Override
 	public String nextIdWithPrefix(String prefix) {
-		String uuid = nextIdString();
-		return prefix + "_" + uuid;
+		return nextUuidString(prefix + "_");
 	}
 
 	@Override
 	public String nextIdWithPrefixAndLength(String key, String prefix, int length) {
 		throw new UnsupportedOperationException("UUID generator does not support key param");
 	}
+
+	@Override
+	public long[] nextIds(String key, int count) {
+		throw new UnsupportedOperationException("UUID generator does not support Long type ID");
+	}
+
+	@Override
+	public long[] nextIds(int count) {
+		throw new UnsupportedOperationException("UUID generator does not support Long type ID");
+	}
+
+	/**
+	 * 前缀 + 32 位小写十六进制 UUID（无连字符）
+	 */
+	static String format(String prefix, long msb, long lsb) {
+		int prefixLength = prefix.length();
+		char[] buf = IdFormatter.buffer(prefixLength + 32);
+		prefix.getChars(0, prefixLength, buf, 0);
+		writeHex(msb, buf, prefixLength);
+		writeHex(lsb, buf, prefixLength + 16);
+		return new String(buf, 0, prefixLength + 32);
+	}
+
+	/**
+	 * 将 64 位按十六进制写入 buf[offset, offset + 16)
+	 */
+	static void writeHex(long value, char[] buf, int offset) {
+		for (int i = offset + 15; i >= offset; i--) {
+			buf[i] = HEX_DIGITS[(int) (value & 0xF)];
+			value >>>= 4;
+		}
+	}
 }
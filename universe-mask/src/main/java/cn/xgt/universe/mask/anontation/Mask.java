@@ -18,7 +18,8 @@ import static cn.xgt.universe.mask.constant.CATEGORT.CUSTOM;
 
 /**
  * @author XGT
- * @description TODO
+ * @description 字段脱敏注解，支持 String、数值类型(Long、BigDecimal 等，输出为脱敏后的字符串)，
+ *              以及元素为这些类型的 Collection、数组和 Map 值
  * @date 2025/11/21
  */
 @Inherited
@@ -0,0 +1,139 @@
+package cn.xgt.universe.mask.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+import cn.xgt.universe.mask.strategy.MaskStrategy;
+
+/**
+ * @author XGT
+ * @description 容器类型字段的脱敏序列化器：Collection/Iterable 与数组逐个元素脱敏，Map 只对值脱敏，key 按默认规则输出。
+ *              元素序列化器在 createContextual 时按声明的元素类型确定；元素类型为 Object 时按运行时类型，
+ *              String 与 Number 脱敏，其他类型按默认规则输出。基本类型数组直接逐个写入，不装箱
+ * @date 2026/10/18
+ */
+public class MaskContainerSerializer extends JsonSerializer<Object> {
+
+    private final MaskStrategy strategy;
+
+    private final MaskNumberSerializer numberSerializer;
+
+    /**
+     * 元素(Map 为值)序列化器，为 null 时按运行时类型分派
+     */
+    private final JsonSerializer<Object> elementSerializer;
+
+    private final JsonSerializer<Object> keySerializer;
+
+    private final JsonSerializer<Object> nullKeySerializer;
+
+    public MaskContainerSerializer(MaskStrategy strategy, JsonSerializer<Object> elementSerializer) {
+        this(strategy, elementSerializer, null, null);
+    }
+
+    public MaskContainerSerializer(MaskStrategy strategy, JsonSerializer<Object> elementSerializer,
+            JsonSerializer<Object> keySerializer, JsonSerializer<Object> nullKeySerializer) {
+        this.strategy = strategy;
+        this.numberSerializer = new MaskNumberSerializer(strategy);
+        this.elementSerializer = elementSerializer;
+        this.keySerializer = keySerializer;
+        this.nullKeySerializer = nullKeySerializer;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (value instanceof Map) {
+            writeMap((Map<?, ?>) value, gen, serializers);
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            gen.writeStartArray(value, collection.size());
+            for (Object element : collection) {
+                writeElement(element, gen, serializers);
+            }
+            gen.writeEndArray();
+        } else if (value instanceof Iterable) {
+            gen.writeStartArray(value);
+            for (Object element : (Iterable<?>) value) {
+                writeElement(element, gen, serializers);
+            }
+            gen.writeEndArray();
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            gen.writeStartArray(value, array.length);
+            for (Object element : array) {
+                writeElement(element, gen, serializers);
+            }
+            gen.writeEndArray();
+        } else if (value instanceof long[]) {
+            long[] array = (long[]) value;
+            gen.writeStartArray(value, array.length);
+            for (long element : array) {
+                strategy.write(element, gen);
+            }
+            gen.writeEndArray();
+        } else if (value instanceof int[]) {
+            int[] array = (int[]) value;
+            gen.writeStartArray(value, array.length);
+            for (int element : array) {
+                strategy.write(element, gen);
+            }
+            gen.writeEndArray();
+        } else if (value instanceof short[]) {
+            short[] array = (short[]) value;
+            gen.writeStartArray(value, array.length);
+            for (short element : array) {
+                strategy.write(element, gen);
+            }
+            gen.writeEndArray();
+        } else if (value instanceof double[]) {
+            double[] array = (double[]) value;
+            gen.writeStartArray(value, array.length);
+            for (double element : array) {
+                strategy.write(Double.toString(element), gen);
+            }
+            gen.writeEndArray();
+        } else if (value instanceof float[]) {
+            float[] array = (float[]) value;
+            gen.writeStartArray(value, array.length);
+            for (float element : array) {
+                strategy.write(Float.toString(element), gen);
+            }
+            gen.writeEndArray();
+        } else {
+            serializers.defaultSerializeValue(value, gen);
+        }
+    }
+
+    private void writeMap(Map<?, ?> map, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject(map);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            if (key == null) {
+                nullKeySerializer.serialize(null, gen, serializers);
+            } else {
+                keySerializer.serialize(key, gen, serializers);
+            }
+            writeElement(entry.getValue(), gen, serializers);
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeElement(Object element, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (element == null) {
+            gen.writeNull();
+        } else if (elementSerializer != null) {
+            elementSerializer.serialize(element, gen, serializers);
+        } else if (element instanceof String) {
+            strategy.write((String) element, gen);
+        } else if (element instanceof Number) {
+            numberSerializer.serialize((Number) element, gen, serializers);
+        } else {
+            serializers.defaultSerializeValue(element, gen);
+        }
+    }
+}
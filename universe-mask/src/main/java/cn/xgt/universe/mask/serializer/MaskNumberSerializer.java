@@ -0,0 +1,37 @@
+package cn.xgt.universe.mask.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import cn.xgt.universe.mask.strategy.MaskStrategy;
+
+/**
+ * @author XGT
+ * @description 数值类型字段的脱敏序列化器，输出为脱敏后的 JSON 字符串。
+ *              Long/Integer/Short/Byte 直接格式化到缓冲区，不创建中间 String；
+ *              BigDecimal 按 toPlainString（不使用科学计数法）；其他 Number 按 toString
+ * @date 2026/10/18
+ */
+public class MaskNumberSerializer extends JsonSerializer<Number> {
+
+    private final MaskStrategy strategy;
+
+    public MaskNumberSerializer(MaskStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void serialize(Number value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            strategy.write(value.longValue(), gen);
+        } else if (value instanceof BigDecimal) {
+            strategy.write(((BigDecimal) value).toPlainString(), gen);
+        } else {
+            strategy.write(value.toString(), gen);
+        }
+    }
+}
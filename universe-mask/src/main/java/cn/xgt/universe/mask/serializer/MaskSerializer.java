@@ -2,6 +2,7 @@ package cn.xgt.universe.mask.serializer;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -10,24 +11,35 @@ import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import org.springframework.core.annotation.Order;
 
 import java.io.IOException;
-import java.util.Objects;
+import java.util.Map;
 
 import cn.xgt.universe.mask.anontation.Mask;
-import cn.xgt.universe.mask.util.DPUtil;
-import lombok.AllArgsConstructor;
+import cn.xgt.universe.mask.strategy.MaskStrategies;
+import cn.xgt.universe.mask.strategy.MaskStrategy;
 import lombok.NoArgsConstructor;
 
 /**
  * @author XGT
- * @description 脱敏序列化处理器
+ * @description 脱敏序列化处理器，String 字段由本类处理，数值与容器类型字段在 createContextual 时替换为对应的脱敏序列化器
  * @date 2025/11/21
  */
 @Order(value = 0)
 @NoArgsConstructor
-@AllArgsConstructor
 public class MaskSerializer extends JsonSerializer<String> implements ContextualSerializer {
 
-    private Mask mask;
+    /**
+     * createContextual 时由 @Mask 注解解析出的策略，序列化时不再判断脱敏类型
+     */
+    private MaskStrategy strategy;
+
+    public MaskSerializer(Mask mask) {
+        this(MaskStrategies.of(mask));
+    }
+
+    public MaskSerializer(MaskStrategy strategy) {
+        this.strategy = strategy;
+    }
+
     /**
      * Method that can be called to ask implementation to serialize
      * values of type this serializer handles.
@@ -39,33 +51,7 @@ public class MaskSerializer extends JsonSerializer<String> implements Contextual
      */
     @Override
     public void serialize(String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-        switch (mask.category()) {
-            case CUSTOM:
-                gen.writeString(DPUtil.mask(value, mask.prefixNoMaskLen(), mask.suffixNoMaskLen(), mask.asterisk()));
-                break;
-            case NAME:
-                gen.writeString(DPUtil.nameMask(value));
-                break;
-            case MOBILE:
-                gen.writeString(DPUtil.mobileMask(value));
-                break;
-            case ID_NUM:gen.writeString(DPUtil.idMask(value));
-                break;
-            case CARD_NUM:
-                gen.writeString(DPUtil.cardNumMask(value));
-                break;
-            case EMAIL:
-                gen.writeString(DPUtil.emailMask(value));
-                break;
-            case ADDRESS:
-                gen.writeString(DPUtil.addressMask(value));
-                break;
-            case MONEY:
-                gen.writeString(DPUtil.moneyMask(value));
-                break;
-            default:
-                throw new RuntimeException("未知脱敏策略");
-        }
+        strategy.write(value, gen);
     }
 
     /**
@@ -88,23 +74,73 @@ public class MaskSerializer extends JsonSerializer<String> implements Contextual
     @Override
     public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
         if (property != null) {
-            // 类型检查：MaskSerializer 只处理 String 类型
-            if (Objects.equals(property.getType().getRawClass(), String.class)) {
-                // 先尝试直接获取注解
-                Mask mask = property.getAnnotation(Mask.class);
-                // 如果获取不到，尝试从上下文获取（支持 @JacksonAnnotationsInside）
-                if (mask == null) {
-                    mask = property.getContextAnnotation(Mask.class);
-                }
-                // 如果找到了 Mask 注解，创建新的序列化器实例
-                if (mask != null) {
-                    return new MaskSerializer(mask);
+            // 先尝试直接获取注解
+            Mask mask = property.getAnnotation(Mask.class);
+            // 如果获取不到，尝试从上下文获取（支持 @JacksonAnnotationsInside）
+            if (mask == null) {
+                mask = property.getContextAnnotation(Mask.class);
+            }
+            // 如果找到了 Mask 注解，解析为预编译策略并按字段类型创建序列化器
+            if (mask != null) {
+                JsonSerializer<?> serializer = forType(property.getType(), MaskStrategies.of(mask), prov, property);
+                if (serializer != null) {
+                    return serializer;
                 }
             }
-            // 如果没有 Mask 注解，使用默认的序列化器
+            // 没有 Mask 注解或字段类型不支持脱敏时，使用默认的序列化器
             return prov.findValueSerializer(property.getType(), property);
         }
         // property 为 null 时，返回 null 值序列化器
         return prov.findNullValueSerializer(null);
     }
+
+    /**
+     * 按字段类型选择脱敏序列化器：String、数值类型，以及元素(Map 为值)为这些类型或 Object 的 Collection、数组、Map，可以嵌套。
+     * byte[]/char[] 以及其他类型返回 null，使用默认的序列化器
+     *
+     * @param type 字段类型
+     * @param strategy 脱敏策略
+     * @return 序列化器，不支持的类型返回 null
+     */
+    @SuppressWarnings("unchecked")
+    static JsonSerializer<?> forType(JavaType type, MaskStrategy strategy,
+            SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+        Class<?> rawClass = type.getRawClass();
+        if (rawClass == String.class) {
+            return new MaskSerializer(strategy);
+        }
+        if (isNumber(rawClass)) {
+            return new MaskNumberSerializer(strategy);
+        }
+        if (!type.isContainerType() || rawClass == byte[].class || rawClass == char[].class) {
+            return null;
+        }
+        JavaType contentType = type.getContentType();
+        JsonSerializer<Object> elementSerializer = null;
+        // 元素类型为 Object 时由 MaskContainerSerializer 按运行时类型分派
+        if (!contentType.isJavaLangObject()) {
+            elementSerializer = (JsonSerializer<Object>) forType(contentType, strategy, prov, property);
+            if (elementSerializer == null) {
+                return null;
+            }
+        }
+        if (type.isMapLikeType()) {
+            if (!Map.class.isAssignableFrom(rawClass)) {
+                return null;
+            }
+            JavaType keyType = type.getKeyType();
+            return new MaskContainerSerializer(strategy, elementSerializer,
+                    prov.findKeySerializer(keyType, property), prov.findNullKeySerializer(keyType, property));
+        }
+        if (type.isCollectionLikeType() && !Iterable.class.isAssignableFrom(rawClass)) {
+            return null;
+        }
+        return new MaskContainerSerializer(strategy, elementSerializer);
+    }
+
+    private static boolean isNumber(Class<?> rawClass) {
+        return Number.class.isAssignableFrom(rawClass)
+                || rawClass == long.class || rawClass == int.class || rawClass == short.class
+                || rawClass == byte.class || rawClass == double.class || rawClass == float.class;
+    }
 }
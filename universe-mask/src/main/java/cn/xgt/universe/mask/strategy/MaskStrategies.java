@@ -0,0 +1,262 @@
+package cn.xgt.universe.mask.strategy;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.util.function.IntUnaryOperator;
+
+import cn.xgt.universe.mask.anontation.Mask;
+import cn.xgt.universe.mask.constant.CATEGORT;
+import cn.xgt.universe.mask.util.DPUtil;
+
+import static cn.xgt.universe.mask.anontation.Mask.DEFAULT_ASTERISK;
+
+/**
+ * @author XGT
+ * @description 各脱敏类型的预编译策略
+ *              内置类型按长度决定保留的前后长度，长度小于 TABLE_SIZE 时的保留长度在类加载时预先算好，运行时只查表；
+ *              CUSTOM 类型的保留长度与打码符号在解析注解时确定；
+ *              除 EMAIL 外，write 直接从线程内复用的 char[] 写入 JsonGenerator，不创建中间 String
+ * @date 2026/10/18
+ */
+public final class MaskStrategies {
+
+    /**
+     * 预先计算保留长度的字符串长度上限(不含)
+     */
+    private static final int TABLE_SIZE = 64;
+
+    /**
+     * 姓名、名称
+     */
+    public static final MaskStrategy NAME = new KeepRangeMaskStrategy(
+            // 长度大于9，显示前2后3；6~9，显示前1后2；4~5，显示前1后1；1，全脱敏；2~3，显示前1
+            length -> length > 9 ? 2 : length == 1 ? 0 : 1,
+            length -> length > 9 ? 3 : length >= 6 ? 2 : length > 3 ? 1 : 0);
+
+    /**
+     * 手机号
+     */
+    public static final MaskStrategy MOBILE = new KeepRangeMaskStrategy(
+            // 11 位大陆手机号显示前3后4；13 位(2位区号)显示前5后4；14 位(3位区号)显示前6后4
+            length -> length == 11 ? 3 : length == 13 ? 5 : length == 14 ? 6 : length >= 10 ? 3 : length >= 7 ? 2 : 0,
+            length -> length >= 10 ? 4 : length >= 7 ? 2 : 0);
+
+    /**
+     * 身份证号/护照号/通行证号
+     */
+    public static final MaskStrategy ID_NUM = new KeepRangeMaskStrategy(
+            length -> length == 18 || length == 15 ? 5 : 0,
+            length -> length == 18 || length == 15 ? 2 : length > 3 ? 3 : 0);
+
+    /**
+     * 银行卡号/银行账户号/社保号
+     */
+    public static final MaskStrategy CARD_NUM = ID_NUM;
+
+    /**
+     * 电子邮箱
+     */
+    public static final MaskStrategy EMAIL = new EmailMaskStrategy();
+
+    /**
+     * 地址
+     */
+    public static final MaskStrategy ADDRESS = new KeepRangeMaskStrategy(
+            length -> length > 12 ? 7 : length >= 5 ? length - 5 : 0,
+            length -> 0);
+
+    /**
+     * 金额
+     */
+    public static final MaskStrategy MONEY = ADDRESS;
+
+    private MaskStrategies() {
+    }
+
+    /**
+     * 解析 @Mask 注解
+     *
+     * @param mask 注解
+     * @return 对应的策略，内置类型返回共享实例
+     */
+    public static MaskStrategy of(Mask mask) {
+        if (mask.category() == CATEGORT.CUSTOM) {
+            return custom(mask.prefixNoMaskLen(), mask.suffixNoMaskLen(), mask.asterisk());
+        }
+        return of(mask.category());
+    }
+
+    /**
+     * @param category 内置脱敏类型，不能为 CUSTOM
+     * @return 共享的策略实例
+     */
+    public static MaskStrategy of(CATEGORT category) {
+        switch (category) {
+            case NAME:
+                return NAME;
+            case MOBILE:
+                return MOBILE;
+            case ID_NUM:
+                return ID_NUM;
+            case CARD_NUM:
+                return CARD_NUM;
+            case EMAIL:
+                return EMAIL;
+            case ADDRESS:
+                return ADDRESS;
+            case MONEY:
+                return MONEY;
+            default:
+                throw new IllegalArgumentException("未知脱敏策略: " + category);
+        }
+    }
+
+    /**
+     * 固定保留前后长度的策略，与 DPUtil.mask 一致：空白字符串返回 null
+     *
+     * @param prefixNoMaskLen 无需打码的前置长度
+     * @param suffixNoMaskLen 无需要打码的后置长度
+     * @param asterisk 打码符号
+     * @return 策略
+     */
+    public static MaskStrategy custom(int prefixNoMaskLen, int suffixNoMaskLen, String asterisk) {
+        return new FixedMaskStrategy(prefixNoMaskLen, suffixNoMaskLen, asterisk);
+    }
+
+    /**
+     * 固定保留前后长度，序列化时直接写入 JsonGenerator
+     */
+    static final class FixedMaskStrategy implements MaskStrategy {
+
+        private final int prefixNoMaskLen;
+
+        private final int suffixNoMaskLen;
+
+        private final String asterisk;
+
+        FixedMaskStrategy(int prefixNoMaskLen, int suffixNoMaskLen, String asterisk) {
+            this.prefixNoMaskLen = prefixNoMaskLen;
+            this.suffixNoMaskLen = suffixNoMaskLen;
+            this.asterisk = asterisk;
+        }
+
+        @Override
+        public String mask(String value) {
+            return DPUtil.mask(value, prefixNoMaskLen, suffixNoMaskLen, asterisk);
+        }
+
+        @Override
+        public void write(String value, JsonGenerator gen) throws IOException {
+            DPUtil.writeMask(gen, value, prefixNoMaskLen, suffixNoMaskLen, asterisk);
+        }
+
+        @Override
+        public void write(long value, JsonGenerator gen) throws IOException {
+            DPUtil.writeMask(gen, value, prefixNoMaskLen, suffixNoMaskLen, asterisk);
+        }
+    }
+
+    /**
+     * 按字符串长度(码点数)保留前后若干字符，中间替换为一个打码符号；空白字符串原样返回。
+     * 可能按 Latin-1 存储的字符串直接取码点数(不扫描)；UTF-16 存储的字符串(中文等)由 DPUtil.maskByLength 在复制原文时统计码点数，不单独扫描
+     */
+    static final class KeepRangeMaskStrategy implements MaskStrategy {
+
+        private final int[] prefixTable = new int[TABLE_SIZE];
+
+        private final int[] suffixTable = new int[TABLE_SIZE];
+
+        /**
+         * 码点数 -> 前置保留长度，在预计算表内时查表
+         */
+        private final IntUnaryOperator prefixOf;
+
+        /**
+         * 码点数 -> 后置保留长度，在预计算表内时查表
+         */
+        private final IntUnaryOperator suffixOf;
+
+        KeepRangeMaskStrategy(IntUnaryOperator prefixRule, IntUnaryOperator suffixRule) {
+            for (int length = 0; length < TABLE_SIZE; length++) {
+                prefixTable[length] = prefixRule.applyAsInt(length);
+                suffixTable[length] = suffixRule.applyAsInt(length);
+            }
+            this.prefixOf = length -> length < TABLE_SIZE ? prefixTable[length] : prefixRule.applyAsInt(length);
+            this.suffixOf = length -> length < TABLE_SIZE ? suffixTable[length] : suffixRule.applyAsInt(length);
+        }
+
+        @Override
+        public String mask(String value) {
+            if (StringUtils.isBlank(value)) {
+                return value;
+            }
+            if (!DPUtil.maybeLatin1(value)) {
+                return DPUtil.maskByLength(value, prefixOf, suffixOf, DEFAULT_ASTERISK);
+            }
+            int length = DPUtil.length(value);
+            if (length < TABLE_SIZE) {
+                return DPUtil.mask(value, length, prefixTable[length], suffixTable[length], DEFAULT_ASTERISK);
+            }
+            return DPUtil.mask(value, length, prefixOf.applyAsInt(length), suffixOf.applyAsInt(length), DEFAULT_ASTERISK);
+        }
+
+        @Override
+        public void write(String value, JsonGenerator gen) throws IOException {
+            if (StringUtils.isBlank(value)) {
+                gen.writeString(value);
+                return;
+            }
+            if (!DPUtil.maybeLatin1(value)) {
+                DPUtil.writeMaskByLength(gen, value, prefixOf, suffixOf, DEFAULT_ASTERISK);
+                return;
+            }
+            int length = DPUtil.length(value);
+            if (length < TABLE_SIZE) {
+                DPUtil.writeMask(gen, value, length, prefixTable[length], suffixTable[length], DEFAULT_ASTERISK);
+            } else {
+                DPUtil.writeMask(gen, value, length, prefixOf.applyAsInt(length), suffixOf.applyAsInt(length), DEFAULT_ASTERISK);
+            }
+        }
+
+        @Override
+        public void write(long value, JsonGenerator gen) throws IOException {
+            // 整数最多20个字符，总在预计算表内
+            int length = DPUtil.stringSize(value);
+            DPUtil.writeMask(gen, value, prefixTable[length], suffixTable[length], DEFAULT_ASTERISK);
+        }
+    }
+
+    /**
+     * 邮箱按 String.split 的规则拆分，使用默认的 write（先生成 String）。
+     * 有 @ 时只对用户名脱敏：用户名长度大于5显示后3，否则全脱敏；没有 @ 时长度大于5显示前3，否则全脱敏
+     */
+    static final class EmailMaskStrategy implements MaskStrategy {
+
+        @Override
+        public String mask(String email) {
+            if (StringUtils.isBlank(email)) {
+                return email;
+            }
+
+            String[] content = email.split("@");
+            final int length = DPUtil.length(content[0]);
+
+            if (content.length > 1) {
+                if (length > 5) {
+                    return DPUtil.mask(content[0], length, 0, 3, DEFAULT_ASTERISK) + "@" + content[1];
+                } else {
+                    return DPUtil.mask(content[0], length, 0, 0, DEFAULT_ASTERISK) + "@" + content[1];
+                }
+            } else {
+                if (length > 5) {
+                    return DPUtil.mask(email, 3, 0, DEFAULT_ASTERISK);
+                } else {
+                    return DPUtil.mask(email, 0, 0, DEFAULT_ASTERISK);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package cn.xgt.universe.mask.strategy;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * @author XGT
+ * @description 预编译的脱敏策略，由 MaskStrategies 按 @Mask 注解解析一次后复用，实例不可变、线程安全
+ * @date 2026/10/18
+ */
+public interface MaskStrategy {
+
+    /**
+     * 对字符串进行脱敏
+     *
+     * @param value 原始字符串
+     * @return 脱敏后结果
+     */
+    String mask(String value);
+
+    /**
+     * 将脱敏结果写入 JsonGenerator，结果与 gen.writeString(mask(value)) 一致。
+     * 默认实现先生成 String，可直接写入缓冲区的策略应覆盖此方法
+     *
+     * @param value 原始字符串
+     * @param gen JSON 输出
+     * @throws IOException 写入失败
+     */
+    default void write(String value, JsonGenerator gen) throws IOException {
+        gen.writeString(mask(value));
+    }
+
+    /**
+     * 将整数的脱敏结果写入 JsonGenerator，结果与 write(Long.toString(value), gen) 一致。
+     * 默认实现先生成 String，可直接格式化到缓冲区的策略应覆盖此方法
+     *
+     * @param value 原始整数
+     * @param gen JSON 输出
+     * @throws IOException 写入失败
+     */
+    default void write(long value, JsonGenerator gen) throws IOException {
+        write(Long.toString(value), gen);
+    }
+}
@@ -1,16 +1,30 @@
 package cn.xgt.universe.mask.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import org.apache.commons.lang3.StringUtils;
 
-import static cn.xgt.universe.mask.anontation.Mask.DEFAULT_ASTERISK;
+import java.io.IOException;
+import java.util.function.IntUnaryOperator;
+
+import cn.xgt.universe.mask.strategy.MaskStrategies;
 
 /**
  * @author XGT
- * @description TODO
+ * @description 脱敏工具，各类型的规则由 MaskStrategies 中的预编译策略实现
  * @date 2025/11/21
  */
 public class DPUtil {
 
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[128]);
+
+    private static final String LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE);
+
+    /**
+     * Latin-1 的最大字符，超出时字符串一定按 UTF-16 存储
+     */
+    private static final char LATIN1_MAX = '\u00FF';
+
     /**
      * 姓名脱敏
      *
@@ -18,28 +32,7 @@ public class DPUtil {
      * @return 脱敏后结果
      */
     public static String nameMask(String name) {
-        if (StringUtils.isBlank(name)) {
-            return name;
-        }
-
-        final int length = name.length();
-
-        if (length > 9) {
-            // 姓名长度大于9，显示前2后3，示例：阿里巴巴集团控股有限公司 转换后为：阿里**********有限公司
-            return mask(name, 2, 3, DEFAULT_ASTERISK);
-        } else if (length >= 6) {
-            // 姓名长度大于等于6，小于等于9，显示前1后2，示例：阿道夫·希特勒，转换后为：阿****特勒
-            return mask(name, 1, 2, DEFAULT_ASTERISK);
-        } else if (length > 3) {
-            // 姓名长度大于3，小于6，显示前1后1，示例：上官明月，转换后为：上****月
-            return mask(name, 1, 1, DEFAULT_ASTERISK);
-        } else if (length == 1) {
-            // 姓名长度为1，全脱敏，示例：荒，转换后为：*
-            return mask(name, 0, 0, DEFAULT_ASTERISK);
-        } else {
-            // 姓名长度为2或3，则显示前1，示例：李梅，转换后：李*
-            return mask(name, 1, 0, DEFAULT_ASTERISK);
-        }
+        return MaskStrategies.NAME.mask(name);
     }
 
     /**
@@ -49,28 +42,7 @@ public class DPUtil {
      * @return 脱敏后的结果
      */
     public static String mobileMask(String mobile) {
-        if (StringUtils.isBlank(mobile)) {
-            return mobile;
-        }
-
-        final int length = mobile.length();
-
-        if (length == 11) {
-            // 大陆手机号码
-            return mask(mobile, 3, 4, DEFAULT_ASTERISK);
-        } else if (length == 13) {
-            // 2位区号 + 手机号码
-            return mask(mobile, 5, 4, DEFAULT_ASTERISK);
-        } else if (length == 14) {
-            // 3位区号 + 手机号码
-            return mask(mobile, 6, 4, DEFAULT_ASTERISK);
-        } else if (length >= 10) {
-            return mask(mobile, 3, 4, DEFAULT_ASTERISK);
-        } else if (length >= 7) {
-            return mask(mobile, 2, 2, DEFAULT_ASTERISK);
-        } else {
-            return mask(mobile, 0, 0, DEFAULT_ASTERISK);
-        }
+        return MaskStrategies.MOBILE.mask(mobile);
     }
 
     /**
@@ -80,19 +52,7 @@ public class DPUtil {
      * @return 脱敏后的结果
      */
     public static String idMask(String idNum) {
-        if (StringUtils.isBlank(idNum)) {
-            return idNum;
-        }
-
-        final int length = idNum.length();
-
-        if (length == 18 || length == 15) {
-            return mask(idNum, 5, 2, DEFAULT_ASTERISK);
-        } else if (length > 3) {
-            return mask(idNum, 0, 3, DEFAULT_ASTERISK);
-        } else {
-            return mask(idNum, 0, 0, DEFAULT_ASTERISK);
-        }
+        return MaskStrategies.ID_NUM.mask(idNum);
     }
 
     /**
@@ -102,19 +62,7 @@ public class DPUtil {
      * @return 脱敏后的结果
      */
     public static String cardNumMask(String cardNum) {
-        if (StringUtils.isBlank(cardNum)) {
-            return cardNum;
-        }
-
-        final int length = cardNum.length();
-
-        if (length == 18 || length == 15) {
-            return mask(cardNum, 5, 2, DEFAULT_ASTERISK);
-        } else if (length > 3) {
-            return mask(cardNum, 0, 3, DEFAULT_ASTERISK);
-        } else {
-            return mask(cardNum, 0, 0, DEFAULT_ASTERISK);
-        }
+        return MaskStrategies.CARD_NUM.mask(cardNum);
     }
 
     /**
@@ -124,26 +72,7 @@ public class DPUtil {
      * @return 脱敏后的结果
      */
     public static String emailMask(String email) {
-        if (StringUtils.isBlank(email)) {
-            return email;
-        }
-
-        String[] content = email.split("@");
-        final int length = content[0].length();
-
-        if (content.length > 1) {
-            if (length > 5) {
-                return mask(content[0], 0, 3, DEFAULT_ASTERISK) + "@" + content[1];
-            } else {
-                return mask(content[0], 0, 0, DEFAULT_ASTERISK) + "@" + content[1];
-            }
-        } else {
-            if (length > 5) {
-                return mask(email, 3, 0, DEFAULT_ASTERISK);
-            } else {
-                return mask(email, 0, 0, DEFAULT_ASTERISK);
-            }
-        }
+        return MaskStrategies.EMAIL.mask(email);
     }
 
     /**
@@ -153,19 +82,7 @@ public class DPUtil {
      * @return 脱敏后的结果
      */
     public static String addressMask(String address) {
-        if (StringUtils.isBlank(address)) {
-            return address;
-        }
-
-        final int length = address.length();
-
-        if (length > 12) {
-            return mask(address, 7, 0, DEFAULT_ASTERISK);
-        } else if (length >= 5) {
-            return mask(address, length - 5, 0, DEFAULT_ASTERISK);
-        } else {
-            return mask(address, 0, 0, DEFAULT_ASTERISK);
-        }
+        return MaskStrategies.ADDRESS.mask(address);
     }
 
     /**
@@ -175,49 +92,340 @@ public class DPUtil {
      * @return 脱敏后的结果
      */
     public static String moneyMask(String money) {
-        if (StringUtils.isBlank(money)) {
-            return money;
+        return MaskStrategies.MONEY.mask(money);
+    }
+
+    /**
+     * 对字符串进行脱敏操作：保留前 prefixNoMaskLen 个与后 suffixNoMaskLen 个字符，中间替换为一个 asterisk
+     * (注意：如果prefixNoMaskLen + suffixNoMaskLen >= origin长度，则原文全部保留，asterisk 插在前置部分之后)
+     * 长度按码点计算，生僻字、emoji 等代理对算一个字符，不会被从中间截断：
+     * 没有代理对时直接按 char 下标计算边界，有代理对时只从两端分别走过 prefixNoMaskLen、suffixNoMaskLen 个码点；
+     * 先算出结果长度，前置部分、打码符号、后置部分各一次 getChars 批量写入线程内复用的 char[]，只分配结果 String
+     *
+     * @param origin 原始字符串
+     * @param prefixNoMaskLen 无需打码的前置长度，小于0按0处理
+     * @param suffixNoMaskLen 无需要打码的后置长度，小于0按0处理
+     * @param asterisk 用于遮罩的字符串, 默认['*']
+     * @return 脱敏后结果，origin 为空白时返回 null
+     */
+    public static String mask(
+            String origin, int prefixNoMaskLen, int suffixNoMaskLen, String asterisk) {
+        return mask(origin, origin == null ? 0 : length(origin), prefixNoMaskLen, suffixNoMaskLen, asterisk);
+    }
+
+    /**
+     * 已知码点数时使用，结果与 {@link #mask(String, int, int, String)} 相同。
+     * codePointLength 等于 origin.length() 即没有代理对时直接按 char 下标计算边界，否则从两端逐个码点确定边界
+     *
+     * @param origin 原始字符串
+     * @param codePointLength origin 的码点数({@link #length(String)})
+     * @param prefixNoMaskLen 无需打码的前置长度，小于0按0处理
+     * @param suffixNoMaskLen 无需要打码的后置长度，小于0按0处理
+     * @param asterisk 用于遮罩的字符串, 默认['*']
+     * @return 脱敏后结果，origin 为空白时返回 null
+     */
+    public static String mask(String origin,
+            int codePointLength, int prefixNoMaskLen, int suffixNoMaskLen, String asterisk) {
+        if (StringUtils.isBlank(origin)) {
+            return null;
         }
+        if (asterisk == null) {
+            asterisk = "null";
+        }
+
+        final int n = origin.length();
+        final boolean bmp = codePointLength == n;
+        final int prefixEnd = offsetFromStart(origin, bmp, prefixNoMaskLen);
+        final int suffixStart = offsetFromEnd(origin, bmp, prefixEnd, suffixNoMaskLen);
+        final int length = prefixEnd + asterisk.length() + (n - suffixStart);
+
+        char[] buf = buffer(length);
+        fill(origin, prefixEnd, suffixStart, asterisk, buf);
+        return new String(buf, 0, length);
+    }
 
-        final int length = money.length();
+    /**
+     * 与 {@link #mask(String, int, int, String)} 相同的脱敏结果，直接从线程内复用的 char[] 写入 JsonGenerator，不创建中间 String
+     *
+     * @param gen JSON 输出
+     * @param origin 原始字符串
+     * @param prefixNoMaskLen 无需打码的前置长度，小于0按0处理
+     * @param suffixNoMaskLen 无需要打码的后置长度，小于0按0处理
+     * @param asterisk 用于遮罩的字符串, 默认['*']
+     * @throws IOException 写入失败
+     */
+    public static void writeMask(JsonGenerator gen,
+            String origin, int prefixNoMaskLen, int suffixNoMaskLen, String asterisk) throws IOException {
+        writeMask(gen, origin, origin == null ? 0 : length(origin), prefixNoMaskLen, suffixNoMaskLen, asterisk);
+    }
 
-        if (length > 12) {
-            return mask(money, 7, 0, DEFAULT_ASTERISK);
-        } else if (length >= 5) {
-            return mask(money, length - 5, 0, DEFAULT_ASTERISK);
-        } else {
-            return mask(money, 0, 0, DEFAULT_ASTERISK);
+    /**
+     * 已知码点数时使用，结果与 {@link #writeMask(JsonGenerator, String, int, int, String)} 相同
+     *
+     * @param gen JSON 输出
+     * @param origin 原始字符串
+     * @param codePointLength origin 的码点数({@link #length(String)})
+     * @param prefixNoMaskLen 无需打码的前置长度，小于0按0处理
+     * @param suffixNoMaskLen 无需要打码的后置长度，小于0按0处理
+     * @param asterisk 用于遮罩的字符串, 默认['*']
+     * @throws IOException 写入失败
+     */
+    public static void writeMask(JsonGenerator gen, String origin,
+            int codePointLength, int prefixNoMaskLen, int suffixNoMaskLen, String asterisk) throws IOException {
+        if (StringUtils.isBlank(origin)) {
+            gen.writeNull();
+            return;
         }
+        if (asterisk == null) {
+            asterisk = "null";
+        }
+
+        final int n = origin.length();
+        final boolean bmp = codePointLength == n;
+        final int prefixEnd = offsetFromStart(origin, bmp, prefixNoMaskLen);
+        final int suffixStart = offsetFromEnd(origin, bmp, prefixEnd, suffixNoMaskLen);
+        final int length = prefixEnd + asterisk.length() + (n - suffixStart);
+
+        char[] buf = buffer(length);
+        fill(origin, prefixEnd, suffixStart, asterisk, buf);
+        gen.writeString(buf, 0, length);
     }
 
     /**
-     * 对字符串进行脱敏操作(注意：如果prefixNoMaskLen + suffixNoMaskLen >= origin长度，则不脱敏)
+     * 保留长度取决于码点数时使用，结果与
+     * mask(origin, length(origin), prefixRule.applyAsInt(length), suffixRule.applyAsInt(length), asterisk) 相同。
+     * 原文复制到线程内复用的 char[] 的同一次遍历中检查代理字符，没有代理时不再单独统计码点数，按 char 下标计算边界。
+     * 适合 {@link #maybeLatin1(String)} 为 false 的字符串，Latin-1 紧凑字符串用 {@link #length(String)} 取码点数不需要扫描
      *
      * @param origin 原始字符串
-     * @param prefixNoMaskLen 无需打码的前置长度
-     * @param suffixNoMaskLen 无需要打码的后置长度
+     * @param prefixRule 码点数 -> 无需打码的前置长度，小于0按0处理
+     * @param suffixRule 码点数 -> 无需要打码的后置长度，小于0按0处理
      * @param asterisk 用于遮罩的字符串, 默认['*']
-     * @return 脱敏后结果
+     * @return 脱敏后结果，origin 为空白时返回 null
      */
-    public static String mask(
-            String origin, int prefixNoMaskLen, int suffixNoMaskLen, String asterisk) {
+    public static String maskByLength(String origin,
+            IntUnaryOperator prefixRule, IntUnaryOperator suffixRule, String asterisk) {
         if (StringUtils.isBlank(origin)) {
             return null;
         }
+        if (asterisk == null) {
+            asterisk = "null";
+        }
+
+        char[] buf = buffer(origin.length() + asterisk.length());
+        final int length = fillByLength(origin, prefixRule, suffixRule, asterisk, buf);
+        return new String(buf, 0, length);
+    }
 
-        StringBuilder prefixSb = new StringBuilder();
-        StringBuilder suffixSb = new StringBuilder();
+    /**
+     * 与 {@link #maskByLength(String, IntUnaryOperator, IntUnaryOperator, String)} 相同的脱敏结果，直接写入 JsonGenerator
+     *
+     * @param gen JSON 输出
+     * @param origin 原始字符串
+     * @param prefixRule 码点数 -> 无需打码的前置长度，小于0按0处理
+     * @param suffixRule 码点数 -> 无需要打码的后置长度，小于0按0处理
+     * @param asterisk 用于遮罩的字符串, 默认['*']
+     * @throws IOException 写入失败
+     */
+    public static void writeMaskByLength(JsonGenerator gen, String origin,
+            IntUnaryOperator prefixRule, IntUnaryOperator suffixRule, String asterisk) throws IOException {
+        if (StringUtils.isBlank(origin)) {
+            gen.writeNull();
+            return;
+        }
+        if (asterisk == null) {
+            asterisk = "null";
+        }
+
+        char[] buf = buffer(origin.length() + asterisk.length());
+        final int length = fillByLength(origin, prefixRule, suffixRule, asterisk, buf);
+        gen.writeString(buf, 0, length);
+    }
+
+    /**
+     * 与 writeMask(gen, Long.toString(value), ...) 相同的脱敏结果，数字直接格式化到线程内复用的 char[]，不创建中间 String
+     *
+     * @param gen JSON 输出
+     * @param value 原始数值
+     * @param prefixNoMaskLen 无需打码的前置长度，小于0按0处理
+     * @param suffixNoMaskLen 无需要打码的后置长度，小于0按0处理
+     * @param asterisk 用于遮罩的字符串, 默认['*']
+     * @throws IOException 写入失败
+     */
+    public static void writeMask(JsonGenerator gen,
+            long value, int prefixNoMaskLen, int suffixNoMaskLen, String asterisk) throws IOException {
+        if (asterisk == null) {
+            asterisk = "null";
+        }
 
-        int n = origin.length();
+        final int n = stringSize(value);
+        final int prefixEnd = Math.min(Math.max(prefixNoMaskLen, 0), n);
+        final int suffixStart = Math.max(prefixEnd, n - Math.max(suffixNoMaskLen, 0));
+        final int asteriskLength = asterisk.length();
+        final int length = prefixEnd + asteriskLength + (n - suffixStart);
+
+        char[] buf = buffer(Math.max(n, length));
+        getChars(value, n, buf);
+        // 先移动后缀再写打码符号，System.arraycopy 支持重叠区间
+        System.arraycopy(buf, suffixStart, buf, prefixEnd + asteriskLength, n - suffixStart);
+        asterisk.getChars(0, asteriskLength, buf, prefixEnd);
+        gen.writeString(buf, 0, length);
+    }
+
+    /**
+     * 脱敏规则使用的字符串长度：码点数，代理对算一个字符。
+     * JDK 9+ 的 Latin-1 紧凑字符串直接返回 length()，其他字符串扫描一次，不分配对象
+     *
+     * @param value 字符串
+     * @return 码点数
+     */
+    public static int length(String value) {
+        return value.codePointCount(0, value.length());
+    }
+
+    /**
+     * 首字符不超过 0xFF 时字符串可能按 Latin-1 紧凑存储，{@link #length(String)} 不需要扫描；
+     * 否则一定按 UTF-16 存储，按码点数脱敏时使用 maskByLength 在复制原文时统计码点数
+     *
+     * @param value 非空字符串
+     * @return 是否可能按 Latin-1 存储
+     */
+    public static boolean maybeLatin1(String value) {
+        return value.charAt(0) <= LATIN1_MAX;
+    }
+
+    /**
+     * @param value 数值
+     * @return 十进制字符数（含负号），与 Long.toString(value).length() 一致
+     */
+    public static int stringSize(long value) {
+        if (value == Long.MIN_VALUE) {
+            return LONG_MIN_VALUE.length();
+        }
+        int size = 1;
+        if (value < 0) {
+            size++;
+            value = -value;
+        }
+        while (value >= 10) {
+            value /= 10;
+            size++;
+        }
+        return size;
+    }
+
+    private static void getChars(long value, int end, char[] buf) {
+        if (value == Long.MIN_VALUE) {
+            LONG_MIN_VALUE.getChars(0, end, buf, 0);
+            return;
+        }
+        final boolean negative = value < 0;
+        if (negative) {
+            value = -value;
+        }
+        int pos = end;
+        do {
+            buf[--pos] = (char) ('0' + (int) (value % 10));
+            value /= 10;
+        } while (value != 0);
+        if (negative) {
+            buf[--pos] = '-';
+        }
+    }
+
+    /**
+     * 原文复制到 buf 的同时检查是否出现代理字符，没有时码点数即 char 数，出现时才用 codePointCount 计算码点数；
+     * 按码点数计算前后保留部分后，先移动后置部分再写入打码符号。buf 长度不小于 origin.length() + asterisk.length()
+     *
+     * @return 结果长度
+     */
+    private static int fillByLength(String origin,
+            IntUnaryOperator prefixRule, IntUnaryOperator suffixRule, String asterisk, char[] buf) {
+        final int n = origin.length();
+        boolean bmp = true;
         for (int i = 0; i < n; i++) {
-            if (i < prefixNoMaskLen) {
-                prefixSb.append(origin.charAt(i));
-                continue;
+            char c = origin.charAt(i);
+            buf[i] = c;
+            if (Character.isSurrogate(c)) {
+                bmp = false;
+            }
+        }
+
+        final int codePointLength = bmp ? n : length(origin);
+        final int asteriskLength = asterisk.length();
+        final int prefixEnd = offsetFromStart(origin, bmp, prefixRule.applyAsInt(codePointLength));
+        final int suffixStart = offsetFromEnd(origin, bmp, prefixEnd, suffixRule.applyAsInt(codePointLength));
+        // System.arraycopy 支持重叠区间
+        System.arraycopy(buf, suffixStart, buf, prefixEnd + asteriskLength, n - suffixStart);
+        asterisk.getChars(0, asteriskLength, buf, prefixEnd);
+        return prefixEnd + asteriskLength + (n - suffixStart);
+    }
+
+    /**
+     * 从头走过 count 个码点后的 char 下标，超出时为 length()。代理对算一个码点，bmp 为 true 时码点即 char
+     */
+    private static int offsetFromStart(String origin, boolean bmp, int count) {
+        final int n = origin.length();
+        if (count <= 0) {
+            return 0;
+        }
+        // 码点数不超过 char 数，count >= n 时整个字符串都在前置部分
+        if (bmp || count >= n) {
+            return Math.min(count, n);
+        }
+        int i = 0;
+        while (count > 0 && i < n) {
+            if (Character.isHighSurrogate(origin.charAt(i++)) && i < n && Character.isLowSurrogate(origin.charAt(i))) {
+                i++;
             }
-            if (i > (n - suffixNoMaskLen - 1)) {
-                suffixSb.append(origin.charAt(i));
+            count--;
+        }
+        return i;
+    }
+
+    /**
+     * 从末尾向前走过 count 个码点后的 char 下标，不越过 limit(前置部分的结束下标)。代理对算一个码点，bmp 为 true 时码点即 char
+     */
+    private static int offsetFromEnd(String origin, boolean bmp, int limit, int count) {
+        final int n = origin.length();
+        if (count <= 0) {
+            return n;
+        }
+        if (count >= n - limit) {
+            return limit;
+        }
+        if (bmp) {
+            return n - count;
+        }
+        int i = n;
+        while (count > 0 && i > limit) {
+            if (Character.isLowSurrogate(origin.charAt(--i)) && i > limit && Character.isHighSurrogate(origin.charAt(i - 1))) {
+                i--;
             }
+            count--;
+        }
+        return i;
+    }
+
+    /**
+     * 前置部分 [0, prefixEnd)、打码符号、后置部分 [suffixStart, n) 依次批量写入 buf
+     */
+    private static void fill(String origin, int prefixEnd, int suffixStart, String asterisk, char[] buf) {
+        final int asteriskLength = asterisk.length();
+        origin.getChars(0, prefixEnd, buf, 0);
+        asterisk.getChars(0, asteriskLength, buf, prefixEnd);
+        origin.getChars(suffixStart, origin.length(), buf, prefixEnd + asteriskLength);
+    }
+
+    /**
+     * 线程内复用的缓冲区，长度不足时扩容
+     */
+    private static char[] buffer(int length) {
+        char[] buf = BUFFER.get();
+        if (buf.length < length) {
+            buf = new char[Math.max(length, buf.length * 2)];
+            BUFFER.set(buf);
         }
-        return prefixSb.append(asterisk).append(suffixSb).toString();
+        return buf;
     }
 }
@@ -0,0 +1,249 @@
+package cn.xgt.universe.mask.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author XGT
+ * @description 单次遍历的 DPUtil.mask 系列方法与基线算法（逐字符 StringBuilder 拼接，按码点计数）的等价性校验。
+ *              输入由固定种子的 Random 生成，覆盖空串、空白串、保留长度超过原文、负数/极大保留长度、代理对与孤立代理字符，
+ *              失败信息中带有种子和转义后的输入，可直接复现
+ * @date 2026/10/18
+ */
+class DPUtilEquivalenceTest {
+
+    private static final long SEED = 20261018L;
+
+    private static final int ROUNDS = 20000;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * 生成原文使用的字符：ASCII、Latin-1、全角/中文、空白、代理对（生僻字、emoji）
+     */
+    private static final String[] ALPHABET = {
+            "a", "Z", "0", "9", "@", ".", "-", "é", "ÿ", "中", "国", "路", "号", "，",
+            " ", "\t", "　",
+            "𠮷", "😀", "🇨🇳", "𠀀"
+    };
+
+    private static final String[] ASTERISKS = {"*", "**", "****", "", "#", "🙈", null};
+
+    /**
+     * 极端保留长度；不含接近 Integer.MIN_VALUE 的值，基线算法的 n - suffixNoMaskLen - 1 在这些值上溢出
+     */
+    private static final int[] EXTREME_KEEPS = {-1, -100, Integer.MIN_VALUE / 2, Integer.MAX_VALUE, Integer.MAX_VALUE - 1};
+
+    @Test
+    void fixedCases() throws IOException {
+        String[] origins = {
+                null, "", " ", "   ", "\t\n", "　",
+                "a", "ab", "张三", "欧阳娜娜", "13812345678", "110101199001011234",
+                "𠮷", "𠮷一", "a😀b", "😀😀😀",
+                "\uD800", "\uDC00", "a\uD800b", "\uDC00\uD800", "😀\uD800"
+        };
+        int[] keeps = {0, 1, 2, 3, 5, 100, -1, Integer.MAX_VALUE};
+        for (String origin : origins) {
+            for (int prefix : keeps) {
+                for (int suffix : keeps) {
+                    for (String asterisk : ASTERISKS) {
+                        assertEquivalent(origin, prefix, suffix, asterisk, "fixed");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void randomInputs() throws IOException {
+        Random random = new Random(SEED);
+        for (int round = 0; round < ROUNDS; round++) {
+            String origin = randomOrigin(random);
+            int length = origin == null ? 0 : origin.codePointCount(0, origin.length());
+            int prefix = randomKeep(random, length);
+            int suffix = randomKeep(random, length);
+            String asterisk = ASTERISKS[random.nextInt(ASTERISKS.length)];
+            assertEquivalent(origin, prefix, suffix, asterisk, "seed=" + SEED + ", round=" + round);
+        }
+    }
+
+    @Test
+    void randomLengthRules() throws IOException {
+        Random random = new Random(SEED + 1);
+        for (int round = 0; round < ROUNDS; round++) {
+            String origin = randomOrigin(random);
+            // 与 MaskStrategies 的规则同形：按码点数分段，短原文的保留长度可能超过原文
+            int a = random.nextInt(4);
+            int b = random.nextInt(4);
+            int threshold = random.nextInt(8);
+            IntUnaryOperator prefixRule = len -> len <= threshold ? a : len / 3;
+            IntUnaryOperator suffixRule = len -> len <= threshold ? b : len - len / 3 - 2;
+            String asterisk = ASTERISKS[random.nextInt(ASTERISKS.length)];
+            String context = "seed=" + (SEED + 1) + ", round=" + round + ", a=" + a + ", b=" + b
+                    + ", threshold=" + threshold + ", " + describe(origin, 0, 0, asterisk);
+
+            String expected = null;
+            if (!StringUtils.isBlank(origin)) {
+                int length = origin.codePointCount(0, origin.length());
+                expected = baseline(origin, prefixRule.applyAsInt(length), suffixRule.applyAsInt(length), asterisk);
+            }
+            assertEquals(expected, DPUtil.maskByLength(origin, prefixRule, suffixRule, asterisk), context);
+            assertEquals(json(expected), json(gen -> DPUtil.writeMaskByLength(gen, origin, prefixRule, suffixRule, asterisk)),
+                    context);
+        }
+    }
+
+    @Test
+    void randomLongValues() throws IOException {
+        Random random = new Random(SEED + 2);
+        long[] extremes = {0L, -1L, 9L, -9L, 10L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+        for (int round = 0; round < ROUNDS; round++) {
+            long value = round < extremes.length ? extremes[round] : random.nextLong() >> random.nextInt(64);
+            String origin = Long.toString(value);
+            int prefix = randomKeep(random, origin.length());
+            int suffix = randomKeep(random, origin.length());
+            String asterisk = ASTERISKS[random.nextInt(ASTERISKS.length)];
+            String context = "seed=" + (SEED + 2) + ", round=" + round + ", value=" + value + ", prefix=" + prefix
+                    + ", suffix=" + suffix + ", asterisk=" + asterisk;
+
+            assertEquals(json(baseline(origin, prefix, suffix, asterisk)),
+                    json(gen -> DPUtil.writeMask(gen, value, prefix, suffix, asterisk)), context);
+        }
+    }
+
+    private static void assertEquivalent(String origin, int prefix, int suffix, String asterisk, String source)
+            throws IOException {
+        String context = source + ", " + describe(origin, prefix, suffix, asterisk);
+        String expected = baseline(origin, prefix, suffix, asterisk);
+
+        assertEquals(expected, DPUtil.mask(origin, prefix, suffix, asterisk), context);
+        if (origin != null) {
+            assertEquals(expected, DPUtil.mask(origin, DPUtil.length(origin), prefix, suffix, asterisk), context);
+        }
+        assertEquals(expected, DPUtil.maskByLength(origin, len -> prefix, len -> suffix, asterisk), context);
+
+        String expectedJson = json(expected);
+        assertEquals(expectedJson, json(gen -> DPUtil.writeMask(gen, origin, prefix, suffix, asterisk)), context);
+        assertEquals(expectedJson, json(gen -> DPUtil.writeMaskByLength(gen, origin, len -> prefix, len -> suffix, asterisk)),
+                context);
+    }
+
+    /**
+     * 基线算法：单次遍历前的 mask 实现，逐个字符判断属于前置、后置还是打码部分后拼接。
+     * 码点语义下以码点为单位遍历，孤立的代理字符各算一个码点，与 String.codePointCount 一致
+     */
+    private static String baseline(String origin, int prefixNoMaskLen, int suffixNoMaskLen, String asterisk) {
+        if (StringUtils.isBlank(origin)) {
+            return null;
+        }
+        StringBuilder prefixSb = new StringBuilder();
+        StringBuilder suffixSb = new StringBuilder();
+        int[] codePoints = origin.codePoints().toArray();
+        int n = codePoints.length;
+        for (int i = 0; i < n; i++) {
+            if (i < prefixNoMaskLen) {
+                prefixSb.appendCodePoint(codePoints[i]);
+                continue;
+            }
+            if (i > (n - suffixNoMaskLen - 1)) {
+                suffixSb.appendCodePoint(codePoints[i]);
+            }
+        }
+        return prefixSb.append(asterisk).append(suffixSb).toString();
+    }
+
+    private static String randomOrigin(Random random) {
+        int kind = random.nextInt(20);
+        if (kind == 0) {
+            return null;
+        }
+        if (kind == 1) {
+            return "";
+        }
+        if (kind == 2) {
+            return StringUtils.repeat(' ', 1 + random.nextInt(3));
+        }
+        int length = kind < 10 ? random.nextInt(4) : random.nextInt(40);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int pick = random.nextInt(ALPHABET.length + 2);
+            if (pick == ALPHABET.length) {
+                // 孤立的高位代理
+                sb.append((char) (0xD800 + random.nextInt(0x400)));
+            } else if (pick == ALPHABET.length + 1) {
+                // 孤立的低位代理
+                sb.append((char) (0xDC00 + random.nextInt(0x400)));
+            } else {
+                sb.append(ALPHABET[pick]);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 多数落在 [-2, length + 2]，覆盖保留长度为 0、恰好等于原文、超过原文的边界；少数取极端值
+     */
+    private static int randomKeep(Random random, int length) {
+        if (random.nextInt(10) == 0) {
+            return EXTREME_KEEPS[random.nextInt(EXTREME_KEEPS.length)];
+        }
+        return random.nextInt(length + 5) - 2;
+    }
+
+    private static String json(String value) throws IOException {
+        return json(gen -> {
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(value);
+            }
+        });
+    }
+
+    private static String json(JsonWriter writer) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(out)) {
+            writer.write(gen);
+        }
+        return out.toString();
+    }
+
+    private static String describe(String origin, int prefix, int suffix, String asterisk) {
+        return "origin=" + quote(origin) + ", prefix=" + prefix + ", suffix=" + suffix + ", asterisk=" + quote(asterisk);
+    }
+
+    /**
+     * 非 ASCII 可见字符转为 \\uXXXX，孤立代理字符在失败信息中也能看清
+     */
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x7F) {
+                sb.append(c);
+            } else {
+                sb.append(String.format("\\u%04X", (int) c));
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    @FunctionalInterface
+    private interface JsonWriter {
+
+        void write(JsonGenerator gen) throws IOException;
+    }
+}